@@ -1,17 +1,18 @@
 package org.example;
 
+import org.example.config.AppConfig;
 import org.example.model.AnalysisReport;
-import org.example.model.Employee;
-import org.example.model.Organization;
 import org.example.service.CsvEmployeeReader;
 import org.example.service.OrganizationAnalyzer;
-import org.example.service.ReportPrinter;
+import org.example.service.ReaderMode;
+import org.example.service.ReportFormat;
+import org.example.service.ReportWriter;
 import org.example.validators.*;
 
 import java.io.IOException;
+import java.io.PrintStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
 
 import static java.lang.System.exit;
@@ -27,41 +28,77 @@ import static org.example.constants.ExitCodes.*;
  */
 public class Main {
     
+    private static final String FORMAT_OPTION = "--format";
+    
     private final CsvEmployeeReader csvReader;
     private final OrganizationAnalyzer analyzer;
-    private final ReportPrinter printer;
+    private final ReportWriter printer;
+    // Progress lines go to stderr when stdout carries JSON/CSV
+    private final boolean progressToStderr;
     
-    /** Default constructor – wires up the real dependencies. */
+    /** Default constructor – wires up the real dependencies, text report. */
     public Main() {
-        this.csvReader = new CsvEmployeeReader();
+        this(ReportFormat.TEXT);
+    }
+    
+    /**
+     * Real dependencies, report written to stdout in the given format, file read
+     * with the reader picked by reader.mode. Throws IllegalArgumentException for an
+     * unknown reader mode.
+     */
+    public Main(ReportFormat format) {
+        this(format, ReaderMode.fromName(AppConfig.get().getReaderMode()));
+    }
+    
+    /** Real dependencies with an explicit reader mode. */
+    public Main(ReportFormat format, ReaderMode readerMode) {
+        this.csvReader = readerMode.newReader(AppConfig.get().isFixedPointSalaries());
         this.analyzer = new OrganizationAnalyzer();
-        this.printer = new ReportPrinter();
+        this.printer = format.newStdoutWriter();
+        this.progressToStderr = format.isMachineReadable();
     }
     
     /** Constructor for tests – pass in mocks/stubs. */
     public Main(CsvEmployeeReader csvReader,
                 OrganizationAnalyzer analyzer,
-                ReportPrinter printer) {
+                ReportWriter printer) {
         this.csvReader = csvReader;
         this.analyzer = analyzer;
         this.printer = printer;
+        this.progressToStderr = false;
     }
     
     /**
-     * CLI entry point. Pass the CSV path as the first arg.
+     * CLI entry point. Pass the CSV path, optionally with --format=text|ndjson|csv
+     * (or --format csv). Anything else on the command line is rejected with the usage.
      * Exit codes: 0=ok, 1=bad args, 2=IO error, 3=validation failed, 4=unexpected
      */
     public static void main(String[] args) {
-        if (args.length < 1) {
+        if (args.length == 0) {
             printUsage();
             exit(INVALID_INPUT);
         }
         
-        String filePath = args[0];
-        Main app = new Main();
+        Arguments arguments = null;
+        try {
+            arguments = Arguments.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println();
+            printUsage();
+            exit(INVALID_INPUT);
+        }
+        
+        Main app = null;
+        try {
+            app = new Main(arguments.format());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            exit(INVALID_INPUT);
+        }
         
         try {
-            app.run(filePath);
+            app.run(arguments.filePath());
         } catch (IOException e) {
             System.err.println("Error reading file: " + e.getMessage());
             exit(ANALYSIS_ERROR);
@@ -76,32 +113,28 @@ public class Main {
     }
     
     /**
-     * The main pipeline: read CSV → validate → build hierarchy → analyze → print.
+     * The main pipeline: read CSV → validate + build hierarchy → analyze → print.
      * Throws if the file can't be read or if validation finds problems.
      */
     public void run(String filePath) throws IOException {
         Path path = Paths.get(filePath);
+        PrintStream progress = progressToStderr ? System.err : System.out;
         
-        System.out.println("Reading employee data from: " + path.toAbsolutePath());
-        
-        // Step 1: Read employees from CSV
-        List<Employee> employees = csvReader.readEmployees(path);
-        System.out.printf("Loaded %d employees.%n%n", employees.size());
-
-        // Step 2: Validate employee records
-        List<ValidationError> allErrors = new ArrayList<>();
+        progress.println("Reading employee data from: " + path.toAbsolutePath());
+        if (AppConfig.get().isVectorizedAnalysis() && !analyzer.isVectorized()) {
+            progress.println("Note: analysis.vectorized is set, but the Vector API isn't in use "
+                    + "(needs java --add-modules jdk.incubator.vector and salary.fixed.point=false); "
+                    + "checking salaries with the plain loop.");
+        }
         
-        List<ValidationError> basicErrors = new BasicEmployeeRecordValidator().validate(employees);
-        allErrors.addAll(basicErrors);
+        // Step 1: Read employees from CSV, straight into the builder – no list in between
+        OrganizationBuilder builder = new OrganizationBuilder();
+        int employeeCount = csvReader.forEachEmployee(path, builder::add);
+        progress.printf("Loaded %d employees.%n%n", employeeCount);
 
-        Organization org = new Organization(employees);
-        
-        List<ValidationError> orgErrors = new CompositeValidator(
-                new InvalidManagerValidator(),
-                new OrganizationCeoValidator(),
-                new CircularReferenceValidator()
-        ).validate(org);
-        allErrors.addAll(orgErrors);
+        // Step 2: Validate the records and build the org tree in one go
+        OrganizationBuilder.Result result = builder.build();
+        List<ValidationError> allErrors = result.errors();
         
         // If there are validation errors, report them and halt
         if (!allErrors.isEmpty()) {
@@ -111,20 +144,83 @@ public class Main {
                     String.format("Found %d validation error(s) in the input data", allErrors.size()));
         }
 
-        // Step 3: Build hierarchy and analyze the organization
-        org.buildHierarchy();
-        AnalysisReport report = analyzer.analyze(employees);
+        // Streaming: steps 3 and 4 together, each issue printed as it's found
+        if (AppConfig.get().isStreamingReport()) {
+            analyzer.analyze(result.organization(), printer.streamReport());
+            return;
+        }
+
+        // Step 3: Analyze the organization (hierarchy is already wired)
+        AnalysisReport report = analyzer.analyze(result.organization());
         
         // Step 4: Print the report
         printer.printReport(report);
     }
     
-    /** Prints help text when user forgets the CSV arg. */
+    /** For tests: the reader run() loads the file with. */
+    CsvEmployeeReader getReader() {
+        return csvReader;
+    }
+    
+    /** For tests: the writer run() prints the report with. */
+    ReportWriter getReportWriter() {
+        return printer;
+    }
+    
+    /** The parsed command line: one CSV path and the report format. */
+    record Arguments(String filePath, ReportFormat format) {
+        
+        /**
+         * Takes exactly one path plus an optional --format=NAME or --format NAME.
+         * Throws IllegalArgumentException for unknown options, a second path,
+         * a missing path or an unknown format.
+         */
+        static Arguments parse(String[] args) {
+            String filePath = null;
+            ReportFormat format = null;
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                String formatName = null;
+                if (arg.startsWith(FORMAT_OPTION + "=")) {
+                    formatName = arg.substring(FORMAT_OPTION.length() + 1);
+                } else if (arg.equals(FORMAT_OPTION)) {
+                    if (i + 1 == args.length) {
+                        throw new IllegalArgumentException("Missing value for " + FORMAT_OPTION);
+                    }
+                    formatName = args[++i];
+                } else if (arg.startsWith("-")) {
+                    throw new IllegalArgumentException("Unknown option '" + arg + "'");
+                } else if (filePath != null) {
+                    throw new IllegalArgumentException("Unexpected argument '" + arg + "' (only one CSV file is read)");
+                } else {
+                    filePath = arg;
+                }
+                
+                if (formatName != null) {
+                    if (format != null) {
+                        throw new IllegalArgumentException(FORMAT_OPTION + " given more than once");
+                    }
+                    format = ReportFormat.fromName(formatName);
+                }
+            }
+            if (filePath == null) {
+                throw new IllegalArgumentException("Missing CSV file path");
+            }
+            return new Arguments(filePath, format == null ? ReportFormat.TEXT : format);
+        }
+    }
+    
+    /** Prints help text when the user forgets the CSV arg or passes one we don't know. */
     private static void printUsage() {
         System.out.println("Employee Organizational Structure Analyzer");
         System.out.println("==========================================");
         System.out.println();
-        System.out.println("Usage: java -jar employee-analyzer.jar <csv-file-path>");
+        System.out.println("Usage: java -jar employee-analyzer.jar <csv-file-path> [--format=<format>]");
+        System.out.println();
+        System.out.println("Options:");
+        System.out.println("  --format=<format>  Report format: " + ReportFormat.names() + " (default: text);");
+        System.out.println("                     --format <format> works too");
+        System.out.println("                     ndjson and csv are for other programs; progress goes to stderr");
         System.out.println();
         System.out.println("Description:");
         System.out.println("  Analyzes employee organizational structure to identify:");
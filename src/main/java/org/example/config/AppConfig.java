@@ -6,6 +6,7 @@ import java.util.Properties;
 
 /**
  * Loads config from config.properties. Falls back to defaults if file missing.
+ * A system property with the same key (java -Danalysis.vectorized=true ...) wins over the file.
  */
 public class AppConfig {
     
@@ -15,12 +16,24 @@ public class AppConfig {
     private static final double DEFAULT_MIN_SALARY_MULTIPLIER = 1.20;
     private static final double DEFAULT_MAX_SALARY_MULTIPLIER = 1.50;
     private static final int DEFAULT_MAX_REPORTING_DEPTH = 4;
+    private static final boolean DEFAULT_PARALLEL_ANALYSIS = false;
+    private static final boolean DEFAULT_VECTORIZED_ANALYSIS = false;
+    private static final boolean DEFAULT_FIXED_POINT_SALARIES = false;
+    private static final int DEFAULT_REPORT_TOP_K = 0;
+    private static final boolean DEFAULT_STREAMING_REPORT = false;
+    private static final String DEFAULT_READER_MODE = "standard";
     
     private static AppConfig instance;
     
     private final double minSalaryMultiplier;
     private final double maxSalaryMultiplier;
     private final int maxReportingDepth;
+    private final boolean parallelAnalysis;
+    private final boolean vectorizedAnalysis;
+    private final boolean fixedPointSalaries;
+    private final int reportTopK;
+    private final boolean streamingReport;
+    private final String readerMode;
     
     private AppConfig() {
         Properties props = loadProperties();
@@ -28,6 +41,12 @@ public class AppConfig {
         this.minSalaryMultiplier = getDouble(props, "salary.min.multiplier", DEFAULT_MIN_SALARY_MULTIPLIER);
         this.maxSalaryMultiplier = getDouble(props, "salary.max.multiplier", DEFAULT_MAX_SALARY_MULTIPLIER);
         this.maxReportingDepth = getInt(props, "reporting.max.depth", DEFAULT_MAX_REPORTING_DEPTH);
+        this.parallelAnalysis = getBoolean(props, "analysis.parallel", DEFAULT_PARALLEL_ANALYSIS);
+        this.vectorizedAnalysis = getBoolean(props, "analysis.vectorized", DEFAULT_VECTORIZED_ANALYSIS);
+        this.fixedPointSalaries = getBoolean(props, "salary.fixed.point", DEFAULT_FIXED_POINT_SALARIES);
+        this.reportTopK = getInt(props, "report.top.k", DEFAULT_REPORT_TOP_K);
+        this.streamingReport = getBoolean(props, "report.streaming", DEFAULT_STREAMING_REPORT);
+        this.readerMode = getString(props, "reader.mode", DEFAULT_READER_MODE);
     }
     
     /** Get the singleton instance. */
@@ -55,8 +74,12 @@ public class AppConfig {
         return props;
     }
     
+    private String lookup(Properties props, String key) {
+        return System.getProperty(key, props.getProperty(key));
+    }
+    
     private double getDouble(Properties props, String key, double defaultValue) {
-        String value = props.getProperty(key);
+        String value = lookup(props, key);
         if (value == null || value.isBlank()) {
             return defaultValue;
         }
@@ -68,7 +91,7 @@ public class AppConfig {
     }
     
     private int getInt(Properties props, String key, int defaultValue) {
-        String value = props.getProperty(key);
+        String value = lookup(props, key);
         if (value == null || value.isBlank()) {
             return defaultValue;
         }
@@ -79,6 +102,22 @@ public class AppConfig {
         }
     }
     
+    private String getString(Properties props, String key, String defaultValue) {
+        String value = lookup(props, key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return value.trim();
+    }
+    
+    private boolean getBoolean(Properties props, String key, boolean defaultValue) {
+        String value = lookup(props, key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+    
     // Getters
     
     /** Min salary multiplier (e.g., 1.20 = at least 20% more). */
@@ -96,6 +135,39 @@ public class AppConfig {
         return maxReportingDepth;
     }
     
+    /** Run the analysis on a ForkJoinPool, split by subtree. */
+    public boolean isParallelAnalysis() {
+        return parallelAnalysis;
+    }
+    
+    /**
+     * Run the salary check as one batched kernel pass – on the Vector API if the JVM
+     * has --add-modules jdk.incubator.vector, a plain loop otherwise.
+     */
+    public boolean isVectorizedAnalysis() {
+        return vectorizedAnalysis;
+    }
+    
+    /** Read salaries as exact cents and check them with integer math. */
+    public boolean isFixedPointSalaries() {
+        return fixedPointSalaries;
+    }
+    
+    /** Keep only this many of the worst issues of each kind (0 = keep all). */
+    public int getReportTopK() {
+        return reportTopK;
+    }
+    
+    /** Print issues as they're found, with the summary at the end. */
+    public boolean isStreamingReport() {
+        return streamingReport;
+    }
+    
+    /** Which CSV reader Main loads the file with (see ReaderMode). */
+    public String getReaderMode() {
+        return readerMode;
+    }
+    
     /** Salary min as percentage (e.g., 20 for 20%). */
     public int getMinSalaryPercent() {
         return (int) ((minSalaryMultiplier - 1.0) * 100);
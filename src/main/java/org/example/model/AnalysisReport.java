@@ -1,14 +1,20 @@
 package org.example.model;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Holds all the issues found during analysis.
  * 
  * Splits salary issues into underpaid/overpaid buckets upfront
  * so we don't have to filter every time someone asks.
+ *
+ * A top-K report (see TopIssues) only holds the worst few of each kind,
+ * worst first; the counts still cover every issue found. A report from an
+ * IssueBuffer reads its lists straight off the buffer's primitive rows.
  */
 public class AnalysisReport {
     
@@ -17,6 +23,12 @@ public class AnalysisReport {
     private final List<ReportingDepthIssue> reportingDepthIssues;
     private final int totalEmployees;
     private final int totalManagers;
+    // Issues found per kind – more than the lists hold in a top-K report
+    private final int underpaidCount;
+    private final int overpaidCount;
+    private final int reportingLineIssueCount;
+    // Top-K limit, 0 = every issue is kept
+    private final int limit;
     
     /** Builds the report and pre-sorts salary issues into buckets. */
     public AnalysisReport(List<SalaryIssue> salaryIssues,
@@ -38,14 +50,36 @@ public class AnalysisReport {
         this.reportingDepthIssues = Collections.unmodifiableList(new ArrayList<>(reportingDepthIssues));
         this.totalEmployees = totalEmployees;
         this.totalManagers = totalManagers;
+        this.underpaidCount = underpaid.size();
+        this.overpaidCount = overpaid.size();
+        this.reportingLineIssueCount = reportingDepthIssues.size();
+        this.limit = 0;
     }
     
-    /** All salary issues combined. */
+    /** Top-K report: lists already split and ranked, counts for everything found. */
+    AnalysisReport(List<SalaryIssue> underpaidManagers,
+                   List<SalaryIssue> overpaidManagers,
+                   List<ReportingDepthIssue> reportingDepthIssues,
+                   int underpaidCount,
+                   int overpaidCount,
+                   int reportingLineIssueCount,
+                   int totalEmployees,
+                   int totalManagers,
+                   int limit) {
+        this.underpaidManagers = Collections.unmodifiableList(underpaidManagers);
+        this.overpaidManagers = Collections.unmodifiableList(overpaidManagers);
+        this.reportingDepthIssues = Collections.unmodifiableList(reportingDepthIssues);
+        this.underpaidCount = underpaidCount;
+        this.overpaidCount = overpaidCount;
+        this.reportingLineIssueCount = reportingLineIssueCount;
+        this.totalEmployees = totalEmployees;
+        this.totalManagers = totalManagers;
+        this.limit = limit;
+    }
+    
+    /** All salary issues combined, underpaid first. A read-only view over both buckets, not a copy. */
     public List<SalaryIssue> getSalaryIssues() {
-        List<SalaryIssue> all = new ArrayList<>(underpaidManagers.size() + overpaidManagers.size());
-        all.addAll(underpaidManagers);
-        all.addAll(overpaidManagers);
-        return Collections.unmodifiableList(all);
+        return new SalaryIssues(underpaidManagers, overpaidManagers);
     }
     
     /** Managers earning less than they should. */
@@ -71,13 +105,61 @@ public class AnalysisReport {
         return totalManagers;
     }
     
+    /** How many underpaid managers were found (can be more than getUnderpaidManagers() holds). */
+    public int getUnderpaidCount() {
+        return underpaidCount;
+    }
+    
+    /** How many overpaid managers were found. */
+    public int getOverpaidCount() {
+        return overpaidCount;
+    }
+    
+    /** How many reporting lines were too long. */
+    public int getReportingLineIssueCount() {
+        return reportingLineIssueCount;
+    }
+    
+    /** Top-K limit per kind, or 0 if the report keeps every issue. */
+    public int getLimit() {
+        return limit;
+    }
+    
+    /** True if some issues were found but not kept. */
+    public boolean isTruncated() {
+        return underpaidCount > underpaidManagers.size()
+                || overpaidCount > overpaidManagers.size()
+                || reportingLineIssueCount > reportingDepthIssues.size();
+    }
+    
     /** True if we found any problems at all. */
     public boolean hasIssues() {
-        return !underpaidManagers.isEmpty() || !overpaidManagers.isEmpty() || !reportingDepthIssues.isEmpty();
+        return getTotalIssueCount() > 0;
     }
     
     public int getTotalIssueCount() {
-        return underpaidManagers.size() + overpaidManagers.size() + reportingDepthIssues.size();
+        return underpaidCount + overpaidCount + reportingLineIssueCount;
+    }
+    
+    /** Two lists read back to back. */
+    private static final class SalaryIssues extends AbstractList<SalaryIssue> implements RandomAccess {
+        
+        private final List<SalaryIssue> first;
+        private final List<SalaryIssue> second;
+        
+        SalaryIssues(List<SalaryIssue> first, List<SalaryIssue> second) {
+            this.first = first;
+            this.second = second;
+        }
+        
+        @Override
+        public SalaryIssue get(int index) {
+            return index < first.size() ? first.get(index) : second.get(index - first.size());
+        }
+        
+        @Override
+        public int size() {
+            return first.size() + second.size();
+        }
     }
 }
-
@@ -0,0 +1,134 @@
+package org.example.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Binary-lifting table over the manager links: jumps[j][i] is employee i's
+ * 2^j-th manager up (-1 past the top). Any k-th manager is then at most
+ * log2(depth) jumps away, and the lowest common manager of two employees is
+ * found by lifting the deeper one to the same level and then both together.
+ *
+ * Building it is O(n log maxDepth) time and memory – one int[] per level, and
+ * the number of levels follows the deepest reporting line, not the headcount.
+ * Queries don't allocate and the table is read-only, so the batch methods can
+ * share it across threads. All positions are dense employee indexes.
+ */
+public final class AncestorIndex {
+
+    /** Returned when there's no such manager. */
+    public static final int NONE = -1;
+
+    private final int[] depths;
+    private final int[][] jumps;
+
+    private AncestorIndex(int[] depths, int[][] jumps) {
+        this.depths = depths;
+        this.jumps = jumps;
+    }
+
+    /**
+     * Builds the table. {@code subtrees} supplies a top-down order (managers before
+     * their reports) for the depths; negative manager indexes count as the top.
+     */
+    public static AncestorIndex build(SubtreeIndex subtrees, IntUnaryOperator managerIndexes) {
+        int size = subtrees.size();
+        int[] depths = new int[size];
+        int[] parents = new int[size];
+        int maxDepth = 0;
+        for (int position = 0; position < size; position++) {
+            int node = subtrees.employeeAt(position);
+            int managerIndex = managerIndexes.applyAsInt(node);
+            parents[node] = managerIndex >= 0 ? managerIndex : NONE;
+            depths[node] = managerIndex >= 0 ? depths[managerIndex] + 1 : 0;
+            maxDepth = Math.max(maxDepth, depths[node]);
+        }
+
+        // Enough levels that the biggest jump covers the deepest line
+        int levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(maxDepth));
+        int[][] jumps = new int[levels][];
+        jumps[0] = parents;
+        for (int j = 1; j < levels; j++) {
+            int[] half = jumps[j - 1];
+            int[] full = new int[size];
+            for (int i = 0; i < size; i++) {
+                full[i] = half[i] == NONE ? NONE : half[half[i]];
+            }
+            jumps[j] = full;
+        }
+        return new AncestorIndex(depths, jumps);
+    }
+
+    /** Managers between this employee and the top (top = 0). */
+    public int depth(int index) {
+        return depths[index];
+    }
+
+    /** The manager {@code k} levels up (k = 1 is the direct manager, 0 is the employee), or NONE. */
+    public int kthManager(int index, int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Level cannot be negative");
+        }
+        if (k > depths[index]) {
+            return NONE;
+        }
+        int current = index;
+        for (int j = 0; k != 0; j++, k >>>= 1) {
+            if ((k & 1) != 0) {
+                current = jumps[j][current];
+            }
+        }
+        return current;
+    }
+
+    /**
+     * The lowest employee that both are (or report up to). If one manages the other,
+     * that's the manager. NONE if they sit under different tops.
+     */
+    public int lowestCommonManager(int first, int second) {
+        int a = first;
+        int b = second;
+        if (depths[a] < depths[b]) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        a = kthManager(a, depths[a] - depths[b]);
+        if (a == b) {
+            return a;
+        }
+        // Jump both as far as they stay apart; they end just below the meeting point
+        for (int j = jumps.length - 1; j >= 0; j--) {
+            if (jumps[j][a] != jumps[j][b]) {
+                a = jumps[j][a];
+                b = jumps[j][b];
+            }
+        }
+        return jumps[0][a];
+    }
+
+    /** kthManager for every index in the batch. */
+    public int[] kthManagers(int[] indexes, int k, ForkJoinPool pool) {
+        int[] results = new int[indexes.length];
+        ParallelRange.forEach(pool, indexes.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = kthManager(indexes[i], k);
+            }
+        });
+        return results;
+    }
+
+    /** lowestCommonManager for every pair (first[i], second[i]), spread over the pool. */
+    public int[] lowestCommonManagers(int[] first, int[] second, ForkJoinPool pool) {
+        if (first.length != second.length) {
+            throw new IllegalArgumentException("Batches must be the same length");
+        }
+        int[] results = new int[first.length];
+        ParallelRange.forEach(pool, first.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = lowestCommonManager(first[i], second[i]);
+            }
+        });
+        return results;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the first {@code capacity} items by {@code order} out of everything offered,
+ * plus an exact count of how many were offered. The heap's head is the lowest-ranked
+ * item kept, so a new item either replaces it or is dropped in O(log capacity).
+ */
+final class BoundedHeap<T> {
+
+    private final int capacity;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+    private int total;
+
+    BoundedHeap(int capacity, Comparator<? super T> order) {
+        this.capacity = capacity;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.min(capacity, 1024) + 1, order.reversed());
+    }
+
+    void offer(T item) {
+        total++;
+        keep(item);
+    }
+
+    /** Everything from {@code other}: its kept items and its count. */
+    void merge(BoundedHeap<T> other) {
+        total += other.total;
+        for (T item : other.heap) {
+            keep(item);
+        }
+    }
+
+    /** How many were offered, kept or not. */
+    int total() {
+        return total;
+    }
+
+    /** The kept items, best-ranked first. */
+    List<T> toSortedList() {
+        List<T> items = new ArrayList<>(heap);
+        items.sort(order);
+        return items;
+    }
+
+    private void keep(T item) {
+        if (heap.size() < capacity) {
+            heap.add(item);
+        } else if (order.compare(item, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(item);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point money helpers: amounts as long cents, multipliers as long
+ * basis points (1.20 = 12000). Used by the fixed-point salary mode so sums
+ * and threshold checks are exact integer math; doubles only appear for display.
+ */
+public final class Cents {
+
+    /** Cents per unit. */
+    public static final long PER_UNIT = 100;
+    /** Basis points per 1.0 of a multiplier. */
+    public static final long BASIS_POINTS = 10_000;
+
+    /**
+     * Most digits parse() takes before the point: 16 of them plus two decimals is
+     * at most 18 digits of cents, which can't overflow a long.
+     */
+    public static final int MAX_INTEGER_DIGITS = 16;
+
+    private Cents() {
+    }
+
+    /**
+     * Parses a plain decimal ([sign]digits[.d[d]]) straight into cents, no double in between.
+     * Throws NumberFormatException for anything else, including more than two decimals
+     * or more than MAX_INTEGER_DIGITS digits before the point.
+     */
+    public static long parse(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+        long value = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("For input string: \"" + text + "\"");
+            }
+            digits++;
+            if (fractionDigits >= 0 && ++fractionDigits > 2) {
+                throw new NumberFormatException("More than 2 decimal places: \"" + text + "\"");
+            }
+            if (fractionDigits < 0 && digits > MAX_INTEGER_DIGITS) {
+                throw new NumberFormatException("More than " + MAX_INTEGER_DIGITS + " digits before the point: \""
+                        + text + "\"");
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("For input string: \"" + text + "\"");
+        }
+        // "12" and "12.5" still need scaling up to cents
+        for (int scale = Math.max(fractionDigits, 0); scale < 2; scale++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+
+    /** Nearest whole cents to a double amount. */
+    public static long fromDouble(double amount) {
+        return Math.round(amount * PER_UNIT);
+    }
+
+    /** Cents back to a double amount, for display. */
+    public static double toDouble(long cents) {
+        return cents / (double) PER_UNIT;
+    }
+
+    /** A multiplier like 1.20 as basis points (12000). */
+    public static long toBasisPoints(double multiplier) {
+        return Math.round(multiplier * BASIS_POINTS);
+    }
+
+    /**
+     * Exact sign of {@code a*b - c*d} for non-negative operands – the products are
+     * compared as 128-bit values, so big sums times basis points can't overflow.
+     */
+    public static int compareProducts(long a, long b, long c, long d) {
+        int high = Long.compare(Math.multiplyHigh(a, b), Math.multiplyHigh(c, d));
+        return high != 0 ? high : Long.compareUnsigned(a * b, c * d);
+    }
+
+    /**
+     * |salary - sum / count × basisPoints / 10000| in cents, rounded half-up.
+     * Only runs when building an issue, so BigDecimal is fine here.
+     */
+    public static long thresholdDifference(long salaryCents, long reportSumCents, int reportCount, long basisPoints) {
+        // Scale everything by count × 10000 so the only rounding is the final one
+        BigDecimal scale = BigDecimal.valueOf(reportCount * BASIS_POINTS);
+        return BigDecimal.valueOf(salaryCents).multiply(scale)
+                .subtract(BigDecimal.valueOf(reportSumCents).multiply(BigDecimal.valueOf(basisPoints)))
+                .abs()
+                .divide(scale, 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+}
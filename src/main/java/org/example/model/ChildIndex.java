@@ -0,0 +1,154 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Direct reports of every employee in compressed sparse row (CSR) form:
+ * one int[] of employee indexes where each manager's reports are a contiguous
+ * slice, plus an offsets array. Built with a counting sort over the manager
+ * indexes – count, prefix-sum, fill – so it's two linear passes and three arrays,
+ * instead of one growing list per manager.
+ *
+ * Walk a manager's reports with no allocation:
+ * <pre>
+ *   for (int slot = index.start(m); slot &lt; index.end(m); slot++) {
+ *       int report = index.childAt(slot);
+ *   }
+ * </pre>
+ * Top-level employees (no manager, or one that can't be resolved) get a slice of
+ * their own in front, [0, rootsEnd()). Every slice keeps input order.
+ */
+public final class ChildIndex {
+
+    // Slice of employee i is [starts[i], starts[i + 1]); roots are [0, starts[0])
+    private final int[] starts;
+    private final int[] slots;
+
+    private ChildIndex(int[] starts, int[] slots) {
+        this.starts = starts;
+        this.slots = slots;
+    }
+
+    /**
+     * Counting sort of {@code size} employees by manager index. Negative manager
+     * indexes (NO_MANAGER / UNKNOWN_MANAGER) count as top-level.
+     */
+    public static ChildIndex build(int size, IntUnaryOperator managerIndexes) {
+        // Pass 1: count – starts[m + 1] holds m's report count, roots are counted separately
+        int[] starts = new int[size + 1];
+        int rootCount = 0;
+        for (int i = 0; i < size; i++) {
+            int managerIndex = managerIndexes.applyAsInt(i);
+            if (managerIndex >= 0) {
+                starts[managerIndex + 1]++;
+            } else {
+                rootCount++;
+            }
+        }
+
+        // Prefix sums, shifted past the roots slice
+        starts[0] = rootCount;
+        for (int i = 0; i < size; i++) {
+            starts[i + 1] += starts[i];
+        }
+
+        // Pass 2: fill, using a copy of the offsets as write cursors
+        int[] slots = new int[size];
+        int[] cursors = new int[size];
+        System.arraycopy(starts, 0, cursors, 0, size);
+        int nextRoot = 0;
+        for (int i = 0; i < size; i++) {
+            int managerIndex = managerIndexes.applyAsInt(i);
+            if (managerIndex >= 0) {
+                slots[cursors[managerIndex]++] = i;
+            } else {
+                slots[nextRoot++] = i;
+            }
+        }
+        return new ChildIndex(starts, slots);
+    }
+
+    /**
+     * Same index built on a ForkJoinPool, with no locks: chunks count reports with
+     * atomic increments, the offsets are prefix-summed, then chunks reserve slots with
+     * atomic cursors and drop each employee in. Reservation order depends on scheduling,
+     * so every slice is sorted afterwards – indexes ascending is input order – which
+     * makes the result identical to build() whatever the thread count.
+     */
+    public static ChildIndex buildParallel(int size, IntUnaryOperator managerIndexes, ForkJoinPool pool) {
+        // Parallel count – counts.get(m + 1) for manager m, counts.get(0) for the roots
+        AtomicIntegerArray counts = new AtomicIntegerArray(size + 1);
+        ParallelRange.forEach(pool, size, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int managerIndex = managerIndexes.applyAsInt(i);
+                counts.incrementAndGet(managerIndex >= 0 ? managerIndex + 1 : 0);
+            }
+        });
+
+        // Prefix sums: starts[0] = roots end, starts[m + 1] = end of m's slice
+        int[] starts = new int[size + 1];
+        int total = counts.get(0);
+        starts[0] = total;
+        for (int i = 0; i < size; i++) {
+            total += counts.get(i + 1);
+            starts[i + 1] = total;
+        }
+
+        // Parallel fill – each employee claims the next free slot in its manager's slice.
+        // cursors.get(0) is the roots cursor, cursors.get(m + 1) is manager m's.
+        int[] slots = new int[size];
+        AtomicIntegerArray cursors = new AtomicIntegerArray(size + 1);
+        for (int i = 0; i < size; i++) {
+            cursors.lazySet(i + 1, starts[i]);
+        }
+        ParallelRange.forEach(pool, size, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int managerIndex = managerIndexes.applyAsInt(i);
+                slots[cursors.getAndIncrement(managerIndex >= 0 ? managerIndex + 1 : 0)] = i;
+            }
+        });
+
+        // Put every slice back in input order
+        Arrays.sort(slots, 0, starts[0]);
+        ParallelRange.forEach(pool, size, (from, to) -> {
+            for (int m = from; m < to; m++) {
+                if (starts[m + 1] - starts[m] > 1) {
+                    Arrays.sort(slots, starts[m], starts[m + 1]);
+                }
+            }
+        });
+        return new ChildIndex(starts, slots);
+    }
+
+    /** Number of employees indexed. */
+    public int size() {
+        return slots.length;
+    }
+
+    /** End of the top-level slice; it starts at slot 0. */
+    public int rootsEnd() {
+        return starts[0];
+    }
+
+    /** First slot of this employee's reports. */
+    public int start(int index) {
+        return starts[index];
+    }
+
+    /** One past the last slot of this employee's reports. */
+    public int end(int index) {
+        return starts[index + 1];
+    }
+
+    public int childCount(int index) {
+        return starts[index + 1] - starts[index];
+    }
+
+    /** Employee index stored in a slot. */
+    public int childAt(int slot) {
+        return slots[slot];
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.model;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -15,12 +16,25 @@ public class Employee {
     private final int id;
     private final String firstName;
     private final String lastName;
-    private final double salary;
+    private double salary;
+    // Same salary in whole cents, for the fixed-point checks (see Cents)
+    private long salaryCents;
     private final Integer managerId;
     
     // Relationships (set after initial parsing)
     private Employee manager;
-    private final List<Employee> directSubordinates;
+    private final ArrayList<Employee> directSubordinates;
+    // Where this employee sits in manager.directSubordinates (-1 if no manager),
+    // so leaving a manager is a swap-remove instead of a search
+    private int subordinateSlot = -1;
+    
+    // Running totals over directSubordinates, kept up to date by setManager/setSalary.
+    // Compensated (Kahan) like DoubleStream.average(), so while reports are only being
+    // added the average matches a fresh pass over the list bit for bit.
+    private double directReportSalarySum;
+    private double directReportSalaryCompensation;
+    // Exact integer total, for the fixed-point checks
+    private long directReportSalaryCents;
     
     /** Creates an employee. Pass null for managerId if this is the CEO. */
     public Employee(int id, String firstName, String lastName, double salary, Integer managerId) {
@@ -28,17 +42,38 @@ public class Employee {
         this.firstName = firstName;
         this.lastName = lastName;
         this.salary = salary;
+        this.salaryCents = Cents.fromDouble(salary);
         this.managerId = managerId;
         this.directSubordinates = new ArrayList<>();
     }
 
+    /** Creates an employee from an exact salary in cents (e.g. parsed with Cents.parse). */
+    public static Employee ofCents(int id, String firstName, String lastName, long salaryCents, Integer managerId) {
+        Employee employee = new Employee(id, firstName, lastName, Cents.toDouble(salaryCents), managerId);
+        employee.salaryCents = salaryCents;
+        return employee;
+    }
+
 
-    /** Average salary of direct reports. Returns 0 if no subordinates. */
+    /** Average salary of direct reports. Returns 0 if no subordinates. O(1) – read from the running totals. */
     public double getAvgSalaryOfSubordinates() {
-        return directSubordinates.stream()
-                .mapToDouble(Employee::getSalary)
-                .average()
-                .orElse(0.0);
+        int count = directSubordinates.size();
+        return count == 0 ? 0.0 : getDirectReportSalarySum() / count;
+    }
+
+    /** How many people report directly to this employee. */
+    public int getDirectReportCount() {
+        return directSubordinates.size();
+    }
+
+    /** Sum of the direct reports' salaries. */
+    public double getDirectReportSalarySum() {
+        return directReportSalarySum - directReportSalaryCompensation;
+    }
+
+    /** Exact sum of the direct reports' salaries, in cents. */
+    public long getDirectReportSalaryCents() {
+        return directReportSalaryCents;
     }
 
 
@@ -108,6 +143,31 @@ public class Employee {
         return salary;
     }
     
+    /** Salary in whole cents. */
+    public long getSalaryCents() {
+        return salaryCents;
+    }
+    
+    /** Changes the salary and keeps the manager's report totals in step. */
+    public void setSalary(double newSalary) {
+        updateSalary(newSalary, Cents.fromDouble(newSalary));
+    }
+    
+    /** setSalary with an exact amount in cents. */
+    public void setSalaryCents(long newSalaryCents) {
+        updateSalary(Cents.toDouble(newSalaryCents), newSalaryCents);
+    }
+    
+    private void updateSalary(double newSalary, long newSalaryCents) {
+        if (manager != null) {
+            manager.addToReportTotals(-salary);
+            manager.addToReportTotals(newSalary);
+            manager.directReportSalaryCents += newSalaryCents - salaryCents;
+        }
+        this.salary = newSalary;
+        this.salaryCents = newSalaryCents;
+    }
+    
     public Integer getManagerId() {
         return managerId;
     }
@@ -116,6 +176,10 @@ public class Employee {
         return manager;
     }
     
+    /**
+     * Direct reports (unmodifiable). In the order they were added, except that when
+     * someone leaves, the last report moves into their place.
+     */
     public List<Employee> getDirectSubordinates() {
         return Collections.unmodifiableList(directSubordinates);
     }
@@ -132,7 +196,9 @@ public class Employee {
     
     /**
      * Sets this employee's manager and wires up the subordinate link.
-     * Handles re-assignment if already had a different manager.
+     * Handles re-assignment if already had a different manager. O(1) either way.
+     * For a reorg in a loaded Organization use Organization.reassign instead,
+     * so the org's indexes follow.
      */
     public void setManager(Employee newManager) {
         if (this.manager == newManager) {
@@ -141,15 +207,78 @@ public class Employee {
         
         // Remove from old manager
         if (this.manager != null) {
-            this.manager.directSubordinates.remove(this);
+            this.manager.removeSubordinate(this);
         }
         
         this.manager = newManager;
         
-        // Add to new manager (if not null and not already there)
-        if (newManager != null && !newManager.directSubordinates.contains(this)) {
-            newManager.directSubordinates.add(this);
+        // Add to new manager
+        if (newManager != null) {
+            newManager.addSubordinate(this);
+        }
+    }
+
+    /**
+     * Moves a batch of employees under {@code newManager} (null detaches them) in one call.
+     * Each move is O(1) and the new manager's list is grown once up front, so reorgs of
+     * hundreds of thousands of people stay linear. Like setManager, no cycle checks.
+     * Called by Organization.reassign, which keeps the org's indexes in step.
+     */
+    static void reassign(Collection<Employee> employees, Employee newManager) {
+        if (newManager != null) {
+            newManager.directSubordinates.ensureCapacity(newManager.directSubordinates.size() + employees.size());
+        }
+        for (Employee employee : employees) {
+            employee.setManager(newManager);
+        }
+    }
+
+    /**
+     * Bulk-build hook: wires a report that has no manager yet. Only touches this
+     * employee's list and totals and the report's own fields, so different managers
+     * can be filled from different threads at the same time.
+     */
+    void attachSubordinates(Employee[] subordinates, ChildIndex index, int managerIndex) {
+        directSubordinates.ensureCapacity(directSubordinates.size() + index.childCount(managerIndex));
+        for (int slot = index.start(managerIndex); slot < index.end(managerIndex); slot++) {
+            Employee subordinate = subordinates[index.childAt(slot)];
+            subordinate.manager = this;
+            addSubordinate(subordinate);
+        }
+    }
+
+    private void addSubordinate(Employee subordinate) {
+        subordinate.subordinateSlot = directSubordinates.size();
+        directSubordinates.add(subordinate);
+        addToReportTotals(subordinate.salary);
+        directReportSalaryCents += subordinate.salaryCents;
+    }
+
+    /** Swap-remove: the last report takes the leaving one's slot. */
+    private void removeSubordinate(Employee subordinate) {
+        int slot = subordinate.subordinateSlot;
+        Employee last = directSubordinates.remove(directSubordinates.size() - 1);
+        if (last != subordinate) {
+            directSubordinates.set(slot, last);
+            last.subordinateSlot = slot;
+        }
+        subordinate.subordinateSlot = -1;
+        addToReportTotals(-subordinate.salary);
+        directReportSalaryCents -= subordinate.salaryCents;
+    }
+
+    /** One compensated-summation step on the report totals. */
+    private void addToReportTotals(double value) {
+        if (directSubordinates.isEmpty()) {
+            // Nobody left – drop any leftover rounding instead of carrying it forward
+            directReportSalarySum = 0;
+            directReportSalaryCompensation = 0;
+            return;
         }
+        double adjusted = value - directReportSalaryCompensation;
+        double next = directReportSalarySum + adjusted;
+        directReportSalaryCompensation = (next - directReportSalarySum) - adjusted;
+        directReportSalarySum = next;
     }
     
     @Override
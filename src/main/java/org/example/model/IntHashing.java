@@ -0,0 +1,44 @@
+package org.example.model;
+
+/**
+ * Sizing and hashing for the open-addressing IntIndexMap.
+ */
+final class IntHashing {
+
+    // Keep tables at most 2/3 full so linear probe runs stay short
+    private static final int MAX_LOAD_NUMERATOR = 2;
+    private static final int MAX_LOAD_DENOMINATOR = 3;
+    private static final int MIN_CAPACITY = 4;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private IntHashing() {
+    }
+
+    /** Start slot for a key. Employee IDs are often sequential, so scramble the bits first. */
+    static int slot(int key, int mask) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /** Smallest power-of-two capacity that holds {@code expectedSize} entries under the load limit. */
+    static int capacityFor(int expectedSize) {
+        long needed = (long) Math.max(expectedSize, 1) * MAX_LOAD_DENOMINATOR / MAX_LOAD_NUMERATOR + 1;
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    /** Capacity after {@code capacity} fills up. Throws IllegalStateException past 2^30 slots. */
+    static int grow(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Table is at its maximum capacity of " + MAX_CAPACITY + " slots");
+        }
+        return capacity * 2;
+    }
+
+    /** Entry count above which a table of this capacity must grow. */
+    static int resizeThreshold(int capacity) {
+        return (int) ((long) capacity * MAX_LOAD_NUMERATOR / MAX_LOAD_DENOMINATOR);
+    }
+}
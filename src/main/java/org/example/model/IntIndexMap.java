@@ -0,0 +1,116 @@
+package org.example.model;
+
+/**
+ * Open-addressing hash map from primitive int keys to non-negative int values
+ * (typically an employee ID to its row/array index).
+ *
+ * Two flat int arrays and linear probing: about 8 bytes per slot, no boxing,
+ * no node objects. Values are stored +1 so a zeroed slot means "empty" and
+ * new arrays need no fill. Insert-only.
+ */
+public class IntIndexMap {
+
+    /** Returned by get() when the key is absent. */
+    public static final int NOT_FOUND = -1;
+
+    private int[] keys;
+    private int[] values; // value + 1; 0 = empty slot
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public IntIndexMap() {
+        this(16);
+    }
+
+    /** Pre-size so {@code expectedSize} entries fit without rehashing. */
+    public IntIndexMap(int expectedSize) {
+        allocate(IntHashing.capacityFor(expectedSize));
+    }
+
+    /** Value for the key, or NOT_FOUND. */
+    public int get(int key) {
+        for (int slot = IntHashing.slot(key, mask); ; slot = (slot + 1) & mask) {
+            int stored = values[slot];
+            if (stored == 0) {
+                return NOT_FOUND;
+            }
+            if (keys[slot] == key) {
+                return stored - 1;
+            }
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != NOT_FOUND;
+    }
+
+    /** Adds or replaces. Returns the previous value, or NOT_FOUND. */
+    public int put(int key, int value) {
+        return insert(key, value, true);
+    }
+
+    /** Adds only if the key is new. Returns the existing value (left untouched), or NOT_FOUND if added. */
+    public int putIfAbsent(int key, int value) {
+        return insert(key, value, false);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int insert(int key, int value, boolean replace) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Values must be non-negative: " + value);
+        }
+        for (int slot = IntHashing.slot(key, mask); ; slot = (slot + 1) & mask) {
+            int stored = values[slot];
+            if (stored == 0) {
+                keys[slot] = key;
+                values[slot] = value + 1;
+                if (++size > resizeAt) {
+                    rehash(IntHashing.grow(keys.length));
+                }
+                return NOT_FOUND;
+            }
+            if (keys[slot] == key) {
+                if (replace) {
+                    values[slot] = value + 1;
+                }
+                return stored - 1;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != 0) {
+                int slot = IntHashing.slot(oldKeys[i], mask);
+                while (values[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeAt = IntHashing.resizeThreshold(capacity);
+    }
+
+    @Override
+    public String toString() {
+        return "IntIndexMap{size=" + size + ", capacity=" + keys.length + "}";
+    }
+}
@@ -0,0 +1,151 @@
+package org.example.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Issues as rows of primitive columns instead of one object each: salary rows
+ * hold the manager's dense index and the four amounts, depth rows the employee's
+ * index and depth. Underpaid and overpaid rows are kept apart (the row group is
+ * the issue type), so the report's buckets need no partitioning pass.
+ *
+ * SalaryIssue / ReportingDepthIssue objects only exist while someone looks at
+ * them: the list views build one per get() from the row, resolving the employee
+ * through the Organization – nothing per issue stays on the heap. Depth issues
+ * get the lazy reporting chain.
+ *
+ * Rows are appended by one thread; once toReport() has been called, stop adding.
+ */
+public final class IssueBuffer {
+
+    private final Organization org;
+    private final int maxAllowedDepth;
+    private final SalaryRows underpaid = new SalaryRows(Issue.Type.UNDERPAID_ISSUE);
+    private final SalaryRows overpaid = new SalaryRows(Issue.Type.OVERPAID_ISSUE);
+
+    // Depth rows
+    private int depthCount;
+    private int[] depthEmployees = new int[16];
+    private int[] depths = new int[16];
+
+    /** Buffer for issues in {@code org}, with depth issues measured against {@code maxAllowedDepth}. */
+    public IssueBuffer(Organization org, int maxAllowedDepth) {
+        this.org = org;
+        this.maxAllowedDepth = maxAllowedDepth;
+    }
+
+    /** Stores the issue's numbers against the manager's dense index; the object itself can go. */
+    public void add(int managerIndex, SalaryIssue issue) {
+        SalaryRows rows = issue.getType() == Issue.Type.UNDERPAID_ISSUE ? underpaid : overpaid;
+        rows.add(managerIndex, issue.getSubordinatesAverageSalary(), issue.getExpectedMinSalary(),
+                issue.getExpectedMaxSalary(), issue.getDifference());
+    }
+
+    /** A reporting line of {@code depth} managers for the employee at {@code employeeIndex}. */
+    public void addReportingDepthIssue(int employeeIndex, int depth) {
+        if (depthCount == depths.length) {
+            depthEmployees = Arrays.copyOf(depthEmployees, depthCount * 2);
+            depths = Arrays.copyOf(depths, depthCount * 2);
+        }
+        depthEmployees[depthCount] = employeeIndex;
+        depths[depthCount++] = depth;
+    }
+
+    public int getUnderpaidCount() {
+        return underpaid.count;
+    }
+
+    public int getOverpaidCount() {
+        return overpaid.count;
+    }
+
+    public int getReportingDepthCount() {
+        return depthCount;
+    }
+
+    /** Underpaid managers, in the order added. Each get() builds a fresh SalaryIssue. */
+    public List<SalaryIssue> underpaidView() {
+        return underpaid;
+    }
+
+    /** Overpaid managers, in the order added. */
+    public List<SalaryIssue> overpaidView() {
+        return overpaid;
+    }
+
+    /** Too-long reporting lines, in the order added. Each get() builds a fresh ReportingDepthIssue. */
+    public List<ReportingDepthIssue> reportingDepthView() {
+        return new DepthRows();
+    }
+
+    /** Report backed by this buffer's views – nothing is copied. */
+    public AnalysisReport toReport(int totalEmployees, int totalManagers) {
+        return new AnalysisReport(underpaidView(), overpaidView(), reportingDepthView(),
+                underpaid.count, overpaid.count, depthCount, totalEmployees, totalManagers, 0);
+    }
+
+    /** One issue type's salary rows, read back as a list of SalaryIssues. */
+    private final class SalaryRows extends AbstractList<SalaryIssue> implements RandomAccess {
+
+        private final Issue.Type type;
+        private int count;
+        private int[] managers = new int[16];
+        private double[] averages = new double[16];
+        private double[] mins = new double[16];
+        private double[] maxes = new double[16];
+        private double[] differences = new double[16];
+
+        SalaryRows(Issue.Type type) {
+            this.type = type;
+        }
+
+        void add(int manager, double average, double min, double max, double difference) {
+            if (count == managers.length) {
+                int capacity = count * 2;
+                managers = Arrays.copyOf(managers, capacity);
+                averages = Arrays.copyOf(averages, capacity);
+                mins = Arrays.copyOf(mins, capacity);
+                maxes = Arrays.copyOf(maxes, capacity);
+                differences = Arrays.copyOf(differences, capacity);
+            }
+            managers[count] = manager;
+            averages[count] = average;
+            mins[count] = min;
+            maxes[count] = max;
+            differences[count++] = difference;
+        }
+
+        @Override
+        public SalaryIssue get(int row) {
+            if (row < 0 || row >= count) {
+                throw new IndexOutOfBoundsException("Row " + row + " of " + count);
+            }
+            return new SalaryIssue(org.getEmployeeAt(managers[row]), type, averages[row], mins[row], maxes[row],
+                    differences[row], Cents.fromDouble(differences[row]));
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+
+    /** The depth rows as a list of ReportingDepthIssues. */
+    private final class DepthRows extends AbstractList<ReportingDepthIssue> implements RandomAccess {
+
+        @Override
+        public ReportingDepthIssue get(int row) {
+            if (row < 0 || row >= depthCount) {
+                throw new IndexOutOfBoundsException("Row " + row + " of " + depthCount);
+            }
+            return new ReportingDepthIssue(org.getEmployeeAt(depthEmployees[row]), depths[row], maxAllowedDepth);
+        }
+
+        @Override
+        public int size() {
+            return depthCount;
+        }
+    }
+}
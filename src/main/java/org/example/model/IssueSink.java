@@ -0,0 +1,23 @@
+package org.example.model;
+
+/**
+ * Takes issues one at a time as an analysis finds them, instead of a finished
+ * AnalysisReport – so they can be written out (or counted, or dropped) without
+ * ever holding them all.
+ *
+ * Calls come in report order: startSection(UNDERPAID_ISSUE), its issues,
+ * startSection(OVERPAID_ISSUE), its issues, startSection(HIERARCHY_DEPTH_ISSUE),
+ * its issues, then finish() once with the totals. Every section is started, even
+ * if it turns out empty.
+ */
+public interface IssueSink {
+
+    void startSection(Issue.Type section);
+
+    void accept(SalaryIssue issue);
+
+    void accept(ReportingDepthIssue issue);
+
+    /** End of the analysis. Issue counts are whatever the sink was given. */
+    void finish(int totalEmployees, int totalManagers);
+}
@@ -0,0 +1,227 @@
+package org.example.model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Columnar (struct-of-arrays) alternative to Organization for big inputs.
+ *
+ * Row i is one employee: ids, manager indexes and salaries sit in primitive
+ * arrays and both names live in one shared UTF-8 byte pool. Manager references
+ * are resolved to row indexes once, at build time, so traversals are plain
+ * array hops with no boxing or pointer chasing.
+ *
+ * Rows keep input order. Duplicate IDs are kept as separate rows (validators
+ * report them); lookups and manager references resolve to the first one.
+ * Use {@link #toEmployee(int)} when an Employee object is needed, e.g. for issues.
+ */
+public class OrgTable {
+
+    /** Manager index of the CEO (no managerId). */
+    public static final int NO_MANAGER = -1;
+    /** Manager index when managerId doesn't match any row. */
+    public static final int UNKNOWN_MANAGER = -2;
+
+    private final int size;
+    private final int[] ids;
+    private final int[] managerIds;
+    private final int[] managerIndexes;
+    private final double[] salaries;
+    private final byte[] namePool;
+    // Row i: first name is [nameOffsets[2i], nameOffsets[2i+1]), last name runs to nameOffsets[2i+2]
+    private final int[] nameOffsets;
+
+    // Lookup: ID -> first row with that ID
+    private final IntIndexMap rowsById;
+    // Flat children layout, built on first use
+    private ChildIndex childIndex;
+
+    private OrgTable(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.managerIds = Arrays.copyOf(builder.managerIds, size);
+        this.salaries = Arrays.copyOf(builder.salaries, size);
+        this.namePool = Arrays.copyOf(builder.namePool, builder.namePoolSize);
+        this.nameOffsets = Arrays.copyOf(builder.nameOffsets, 2 * size + 1);
+
+        this.rowsById = new IntIndexMap(size);
+        for (int i = 0; i < size; i++) {
+            rowsById.putIfAbsent(ids[i], i);
+        }
+
+        this.managerIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            if (!builder.hasManager[i]) {
+                managerIndexes[i] = NO_MANAGER;
+            } else {
+                int managerIndex = indexOf(managerIds[i]);
+                managerIndexes[i] = managerIndex < 0 ? UNKNOWN_MANAGER : managerIndex;
+            }
+        }
+    }
+
+    /** Copies an employee list into columns. */
+    public static OrgTable from(List<Employee> employees) {
+        Builder builder = new Builder(employees.size());
+        for (Employee employee : employees) {
+            builder.add(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                    employee.getSalary(), employee.getManagerId());
+        }
+        return builder.build();
+    }
+
+    /** Number of rows. */
+    public int size() {
+        return size;
+    }
+
+    public int getId(int index) {
+        return ids[index];
+    }
+
+    public double getSalary(int index) {
+        return salaries[index];
+    }
+
+    /** True unless this row is a CEO (empty managerId). */
+    public boolean hasManager(int index) {
+        return managerIndexes[index] != NO_MANAGER;
+    }
+
+    /** Raw managerId from the input. Only meaningful if hasManager(index). */
+    public int getManagerId(int index) {
+        return managerIds[index];
+    }
+
+    /** Row of the manager, or NO_MANAGER / UNKNOWN_MANAGER. */
+    public int getManagerIndex(int index) {
+        return managerIndexes[index];
+    }
+
+    public String getFirstName(int index) {
+        return decode(nameOffsets[2 * index], nameOffsets[2 * index + 1]);
+    }
+
+    public String getLastName(int index) {
+        return decode(nameOffsets[2 * index + 1], nameOffsets[2 * index + 2]);
+    }
+
+    public String getFullName(int index) {
+        return getFirstName(index) + " " + getLastName(index);
+    }
+
+    /** Direct reports of every row as one CSR array (see ChildIndex). Built once, on the first call. */
+    public synchronized ChildIndex getChildIndex() {
+        if (childIndex == null) {
+            childIndex = ChildIndex.build(size, i -> managerIndexes[i]);
+        }
+        return childIndex;
+    }
+
+    /** Row of the (first) employee with this ID, or -1 if there is none. */
+    public int indexOf(int id) {
+        return rowsById.get(id);
+    }
+
+    /** Standalone Employee copy of a row. Manager/subordinate links are not set. */
+    public Employee toEmployee(int index) {
+        return new Employee(ids[index], getFirstName(index), getLastName(index), salaries[index],
+                hasManager(index) ? managerIds[index] : null);
+    }
+
+    private String decode(int start, int end) {
+        return new String(namePool, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends rows into growable primitive arrays. Call build() once at the end.
+     */
+    public static class Builder {
+
+        private int size;
+        private int[] ids;
+        private int[] managerIds;
+        private boolean[] hasManager;
+        private double[] salaries;
+        private int[] nameOffsets;
+        private byte[] namePool;
+        private int namePoolSize;
+
+        public Builder() {
+            this(16);
+        }
+
+        /** Pre-size for an expected number of rows. */
+        public Builder(int expectedRows) {
+            int capacity = Math.max(expectedRows, 1);
+            ids = new int[capacity];
+            managerIds = new int[capacity];
+            hasManager = new boolean[capacity];
+            salaries = new double[capacity];
+            nameOffsets = new int[2 * capacity + 1];
+            namePool = new byte[capacity * 16];
+        }
+
+        /** Adds a row. Pass null managerId for the CEO. */
+        public Builder add(int id, String firstName, String lastName, double salary, Integer managerId) {
+            int row = startRow(id, salary, managerId != null, managerId == null ? 0 : managerId);
+            appendName(firstName.getBytes(StandardCharsets.UTF_8));
+            nameOffsets[2 * row + 1] = namePoolSize;
+            appendName(lastName.getBytes(StandardCharsets.UTF_8));
+            nameOffsets[2 * row + 2] = namePoolSize;
+            return this;
+        }
+
+        /** Adds a row whose UTF-8 names are copied straight out of {@code source} (e.g. a mapped file). */
+        public Builder add(int id, ByteBuffer source, int firstStart, int firstEnd, int lastStart, int lastEnd,
+                           double salary, boolean hasManagerId, int managerId) {
+            int row = startRow(id, salary, hasManagerId, managerId);
+            appendName(source, firstStart, firstEnd);
+            nameOffsets[2 * row + 1] = namePoolSize;
+            appendName(source, lastStart, lastEnd);
+            nameOffsets[2 * row + 2] = namePoolSize;
+            return this;
+        }
+
+        public OrgTable build() {
+            return new OrgTable(this);
+        }
+
+        private int startRow(int id, double salary, boolean hasManagerId, int managerId) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                managerIds = Arrays.copyOf(managerIds, capacity);
+                hasManager = Arrays.copyOf(hasManager, capacity);
+                salaries = Arrays.copyOf(salaries, capacity);
+                nameOffsets = Arrays.copyOf(nameOffsets, 2 * capacity + 1);
+            }
+            int row = size++;
+            ids[row] = id;
+            managerIds[row] = managerId;
+            hasManager[row] = hasManagerId;
+            salaries[row] = salary;
+            return row;
+        }
+
+        private void appendName(byte[] bytes) {
+            ensurePool(bytes.length);
+            System.arraycopy(bytes, 0, namePool, namePoolSize, bytes.length);
+            namePoolSize += bytes.length;
+        }
+
+        private void appendName(ByteBuffer source, int start, int end) {
+            ensurePool(end - start);
+            source.get(start, namePool, namePoolSize, end - start);
+            namePoolSize += end - start;
+        }
+
+        private void ensurePool(int extra) {
+            if (namePoolSize + extra > namePool.length) {
+                namePool = Arrays.copyOf(namePool, Math.max(namePool.length * 2, namePoolSize + extra));
+            }
+        }
+    }
+}
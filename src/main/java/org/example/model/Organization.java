@@ -1,67 +1,308 @@
 package org.example.model;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toMap;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Container for all employees. Basically a lookup table by ID
  * with the ability to wire up the manager/subordinate relationships.
+ *
+ * On load every employee gets a dense index 0..n-1 (input order) and each
+ * managerId is resolved to its manager's index once. Anything that needs
+ * per-employee state can then use plain arrays and BitSets indexed by
+ * position instead of hash maps keyed by (sparse) employee ID.
+ * The original IDs stay on the Employee objects for errors and reports.
+ *
+ * Reorgs go through reassign(): it moves the Employee links and the manager
+ * indexes together and drops the cached indexes built from them. Calling
+ * Employee.setManager directly on a loaded org leaves those indexes behind.
  */
 public class Organization {
 
-    private final Map<Integer, Employee> employees;
+    /** Manager index of the CEO (no managerId). */
+    public static final int NO_MANAGER = -1;
+    /** Manager index when managerId doesn't match any employee. */
+    public static final int UNKNOWN_MANAGER = -2;
+
+    // ID dictionary: employee ID -> dense index
+    private final IntIndexMap indexById;
+    private final Employee[] employees;
+    private final int[] managerIndexes;
     private Employee ceo;
+    // Flat children layout and pre-order intervals, built on first use
+    private ChildIndex childIndex;
+    private SubtreeIndex subtreeIndex;
+    private AncestorIndex ancestorIndex;
 
-    /** Loads employees into a map for fast lookup. */
+    /** Loads employees and resolves manager references. Throws IllegalStateException on duplicate IDs. */
     public Organization(List<Employee> employeeList) {
-        this.employees = employeeList.stream()
-                .collect(toMap(Employee::getId, identity()));
+        int size = employeeList.size();
+        this.employees = employeeList.toArray(new Employee[0]);
+        this.indexById = new IntIndexMap(size);
+        for (int i = 0; i < size; i++) {
+            int existing = indexById.putIfAbsent(employees[i].getId(), i);
+            if (existing != IntIndexMap.NOT_FOUND) {
+                throw new IllegalStateException(String.format("Duplicate key %d (attempted merging values %s and %s)",
+                        employees[i].getId(), employees[existing], employees[i]));
+            }
+        }
+
+        this.managerIndexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            Integer managerId = employees[i].getManagerId();
+            if (managerId == null) {
+                managerIndexes[i] = NO_MANAGER;
+            } else {
+                int managerIndex = indexById.get(managerId);
+                managerIndexes[i] = managerIndex == IntIndexMap.NOT_FOUND ? UNKNOWN_MANAGER : managerIndex;
+            }
+        }
     }
 
     /**
-     * Wires up all the manager ↔ subordinate links. 
+     * For loaders that have already indexed, resolved and wired everything in their own pass
+     * (see validators.OrganizationBuilder). Arrays are taken as-is, not copied. Duplicate IDs
+     * are allowed here; lookups resolve to the first one, like indexById says.
+     */
+    public Organization(Employee[] employees, IntIndexMap indexById, int[] managerIndexes, Employee ceo) {
+        this.employees = employees;
+        this.indexById = indexById;
+        this.managerIndexes = managerIndexes;
+        this.ceo = ceo;
+    }
+
+    /**
+     * Wires up all the manager ↔ subordinate links.
      * Call this after validation passes.
      */
     public void buildHierarchy() {
-        for (Employee employee : employees.values()) {
-            Integer managerId = employee.getManagerId();
-            if (managerId == null) {
-                this.ceo = employee;
-            } else {
-                Employee manager = employees.get(managerId);
-                if (manager != null) {
-                    employee.setManager(manager);
+        for (int i = 0; i < employees.length; i++) {
+            int managerIndex = managerIndexes[i];
+            if (managerIndex == NO_MANAGER) {
+                this.ceo = employees[i];
+            } else if (managerIndex >= 0) {
+                employees[i].setManager(employees[managerIndex]);
+            }
+        }
+    }
+
+    /**
+     * Parallel buildHierarchy(): builds the children index on the pool (see
+     * ChildIndex.buildParallel), then fills managers' subordinate lists from their
+     * slices, one manager per thread at a time – no locks, no shared lists.
+     * Gives exactly what buildHierarchy() gives, subordinate order included,
+     * whatever the thread count. Falls back to buildHierarchy() if anyone is already wired.
+     */
+    public void buildHierarchyParallel(ForkJoinPool pool) {
+        for (Employee employee : employees) {
+            if (employee.getManager() != null || employee.isManager()) {
+                buildHierarchy();
+                return;
+            }
+        }
+
+        ChildIndex index;
+        synchronized (this) {
+            if (childIndex == null) {
+                childIndex = ChildIndex.buildParallel(employees.length, i -> managerIndexes[i], pool);
+            }
+            index = childIndex;
+        }
+        ParallelRange.forEach(pool, employees.length, (from, to) -> {
+            for (int m = from; m < to; m++) {
+                if (index.childCount(m) > 0) {
+                    employees[m].attachSubordinates(employees, index, m);
+                }
+            }
+        });
+
+        // Same pick as buildHierarchy(): the last employee without a manager
+        for (int slot = index.rootsEnd() - 1; slot >= 0; slot--) {
+            int root = index.childAt(slot);
+            if (managerIndexes[root] == NO_MANAGER) {
+                this.ceo = employees[root];
+                break;
+            }
+        }
+    }
+
+    /**
+     * Moves employees under {@code newManager} (null makes them top-level) – the way to
+     * reorg a loaded org. Updates the manager links and report totals, this org's manager
+     * indexes, and drops the cached children/subtree/ancestor indexes so the next query
+     * rebuilds them from the new structure. Employee.getManagerId() still shows the loaded value.
+     * Throws IllegalArgumentException for employees that aren't in this org, or when
+     * {@code newManager} is one of the moved employees or anywhere under them (checked
+     * against the current SubtreeIndex, so nothing changes on a cycle).
+     */
+    public synchronized void reassign(Collection<Employee> moved, Employee newManager) {
+        int newManagerIndex = newManager == null ? NO_MANAGER : requireIndex(newManager);
+        int[] indexes = new int[moved.size()];
+        int count = 0;
+        for (Employee employee : moved) {
+            indexes[count++] = requireIndex(employee);
+        }
+        if (newManagerIndex != NO_MANAGER) {
+            SubtreeIndex subtrees = getSubtreeIndex();
+            for (int i = 0; i < count; i++) {
+                if (subtrees.isInSubtree(newManagerIndex, indexes[i])) {
+                    throw new IllegalArgumentException(String.format(
+                            "Can't move employee ID %d under ID %d: that would make a reporting cycle",
+                            employees[indexes[i]].getId(), newManager.getId()));
                 }
             }
         }
+
+        Employee.reassign(moved, newManager);
+        for (int i = 0; i < count; i++) {
+            managerIndexes[indexes[i]] = newManagerIndex;
+        }
+        childIndex = null;
+        subtreeIndex = null;
+        ancestorIndex = null;
+    }
+
+    private int requireIndex(Employee employee) {
+        int index = indexById.get(employee.getId());
+        if (index == IntIndexMap.NOT_FOUND || employees[index] != employee) {
+            throw new IllegalArgumentException("Employee ID " + employee.getId() + " is not in this organization");
+        }
+        return index;
     }
-    
+
+    /**
+     * Direct reports of everyone as one CSR array (see ChildIndex), straight from the
+     * resolved manager indexes – no Employee lists involved, so it works with or
+     * without buildHierarchy(). Built once, on the first call.
+     */
+    public synchronized ChildIndex getChildIndex() {
+        if (childIndex == null) {
+            childIndex = ChildIndex.build(employees.length, i -> managerIndexes[i]);
+        }
+        return childIndex;
+    }
+
+    /**
+     * Pre/post-order interval index (see SubtreeIndex) for O(1) "is X under Y"
+     * and subtree-size queries. Built once, in linear time, on the first call.
+     * Throws IllegalStateException if the org has a cycle.
+     */
+    public synchronized SubtreeIndex getSubtreeIndex() {
+        if (subtreeIndex == null) {
+            subtreeIndex = SubtreeIndex.build(getChildIndex());
+        }
+        return subtreeIndex;
+    }
+
+    /**
+     * True if the employee with {@code employeeId} is anywhere in the org of
+     * {@code managerId} (below them, not the manager themselves). False for unknown IDs.
+     */
+    public boolean isInOrgOf(int employeeId, int managerId) {
+        int index = indexById.get(employeeId);
+        int managerIndex = indexById.get(managerId);
+        if (index == IntIndexMap.NOT_FOUND || managerIndex == IntIndexMap.NOT_FOUND) {
+            return false;
+        }
+        return getSubtreeIndex().isUnder(index, managerIndex);
+    }
+
+    /**
+     * Binary-lifting index (see AncestorIndex) for k-th manager and lowest common
+     * manager queries in O(log depth). Built once, on the first call.
+     */
+    public synchronized AncestorIndex getAncestorIndex() {
+        if (ancestorIndex == null) {
+            ancestorIndex = AncestorIndex.build(getSubtreeIndex(), i -> managerIndexes[i]);
+        }
+        return ancestorIndex;
+    }
+
+    /** The manager {@code levels} up from this employee (1 = direct manager). Null if there's none. */
+    public Employee findManagerAbove(int employeeId, int levels) {
+        int index = indexById.get(employeeId);
+        if (index == IntIndexMap.NOT_FOUND) {
+            return null;
+        }
+        int managerIndex = getAncestorIndex().kthManager(index, levels);
+        return managerIndex == AncestorIndex.NONE ? null : employees[managerIndex];
+    }
+
+    /**
+     * Lowest manager both employees roll up to (one of them, if one manages the other).
+     * Null for unknown IDs or separate trees.
+     */
+    public Employee findLowestCommonManager(int firstId, int secondId) {
+        int first = indexById.get(firstId);
+        int second = indexById.get(secondId);
+        if (first == IntIndexMap.NOT_FOUND || second == IntIndexMap.NOT_FOUND) {
+            return null;
+        }
+        int common = getAncestorIndex().lowestCommonManager(first, second);
+        return common == AncestorIndex.NONE ? null : employees[common];
+    }
+
     /** Returns the CEO. Only works after buildHierarchy() is called. */
     public Employee getCeo() {
         return ceo;
     }
 
-    /** All employees (unmodifiable). */
-    public Collection<Employee> getEmployees() {
-        return Collections.unmodifiableCollection(employees.values());
+    /** All employees in input order (unmodifiable). */
+    public List<Employee> getEmployees() {
+        return Collections.unmodifiableList(Arrays.asList(employees));
     }
 
     /** Lookup by ID. Returns null if not found. */
     public Employee getEmployeeById(int id) {
-        return employees.get(id);
+        int index = indexById.get(id);
+        return index == IntIndexMap.NOT_FOUND ? null : employees[index];
     }
 
     public boolean hasEmployee(int id) {
-        return employees.containsKey(id);
+        return indexById.containsKey(id);
+    }
+
+    /** Dense index of the employee with this ID, or -1 if not found. */
+    public int indexOf(int id) {
+        return indexById.get(id);
+    }
+
+    /** Employee at a dense index (0..size()-1). */
+    public Employee getEmployeeAt(int index) {
+        return employees[index];
+    }
+
+    /** Index of this employee's manager, or NO_MANAGER / UNKNOWN_MANAGER. Follows reassign(). */
+    public int getManagerIndex(int index) {
+        return managerIndexes[index];
+    }
+
+    /**
+     * Index of this employee's manager as currently wired (Employee.getManager()) –
+     * NO_MANAGER if there's no link, UNKNOWN_MANAGER if the manager isn't in this org.
+     * The same links the report totals follow, so analysis reads structure from here.
+     * Matches getManagerIndex after buildHierarchy() and reassign(); only a lookup when it doesn't.
+     */
+    public int getWiredManagerIndex(int index) {
+        Employee manager = employees[index].getManager();
+        if (manager == null) {
+            return NO_MANAGER;
+        }
+        int resolved = managerIndexes[index];
+        if (resolved >= 0 && employees[resolved] == manager) {
+            return resolved;
+        }
+        int managerIndex = indexById.get(manager.getId());
+        return managerIndex != IntIndexMap.NOT_FOUND && employees[managerIndex] == manager
+                ? managerIndex
+                : UNKNOWN_MANAGER;
     }
 
     /** How many employees total. */
     public int size() {
-        return employees.size();
+        return employees.length;
     }
 }
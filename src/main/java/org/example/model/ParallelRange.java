@@ -0,0 +1,57 @@
+package org.example.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Tiny parallel-for over [0, size) for the bulk builders in this package:
+ * the range is halved on a ForkJoinPool down to chunks of about
+ * {@code size / (parallelism * 8)} (at least 1024), and each chunk runs as one loop.
+ */
+final class ParallelRange {
+
+    private static final int MIN_CHUNK = 1024;
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    /** Body of one chunk: handle [from, to). */
+    interface Body {
+        void run(int from, int to);
+    }
+
+    private ParallelRange() {
+    }
+
+    static void forEach(ForkJoinPool pool, int size, Body body) {
+        int chunk = Math.max(MIN_CHUNK, size / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        if (size <= chunk) {
+            body.run(0, size);
+            return;
+        }
+        pool.invoke(new Task(body, 0, size, chunk));
+    }
+
+    private static final class Task extends RecursiveAction {
+
+        private final Body body;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        Task(Body body, int from, int to, int chunk) {
+            this.body = body;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Task(body, from, mid, chunk), new Task(body, mid, to, chunk));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.model;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only view of a reporting chain: manager, their manager, ... up to the CEO.
+ *
+ * Nothing is copied – the view just follows the manager links when it's read,
+ * so every issue on a deep branch shares the same Employee objects and costs
+ * O(1) memory. Size, get() and iteration all walk the same links and stop at the
+ * first employee without a manager, so they always agree with each other, even
+ * if the links changed after the issue was made. size() and get() are O(depth).
+ */
+final class ReportingChain extends AbstractList<Employee> {
+
+    private final Employee firstManager;
+
+    ReportingChain(Employee firstManager) {
+        this.firstManager = firstManager;
+    }
+
+    @Override
+    public Employee get(int index) {
+        if (index >= 0) {
+            Employee current = firstManager;
+            for (int i = 0; i < index && current != null; i++) {
+                current = current.getManager();
+            }
+            if (current != null) {
+                return current;
+            }
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Employee current = firstManager; current != null; current = current.getManager()) {
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return firstManager == null;
+    }
+
+    /** Walks the links once instead of restarting from the bottom for every get(). */
+    @Override
+    public Iterator<Employee> iterator() {
+        return new Iterator<>() {
+            private Employee next = firstManager;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Employee next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Employee current = next;
+                next = current.getManager();
+                return current;
+            }
+        };
+    }
+}
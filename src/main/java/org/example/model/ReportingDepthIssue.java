@@ -7,7 +7,8 @@ import java.util.List;
 
 /**
  * Someone with too many managers between them and the CEO.
- * Keeps the full chain so we can show it in the report.
+ * Keeps the chain so we can show it in the report – normally as a lazy view over
+ * the manager links, so a deep branch full of issues doesn't hold a copy per issue.
  */
 public class ReportingDepthIssue implements Issue {
     
@@ -25,6 +26,14 @@ public class ReportingDepthIssue implements Issue {
         this.reportingChain = reportingChain;
     }
     
+    /**
+     * Chain is read lazily from the employee's manager links (nearest manager first).
+     * The hierarchy has to be wired, e.g. by Organization.buildHierarchy().
+     */
+    public ReportingDepthIssue(Employee employee, int actualDepth, int maxAllowedDepth) {
+        this(employee, actualDepth, new ReportingChain(employee.getManager()), maxAllowedDepth);
+    }
+    
     /** Convenience constructor using config default. */
     public ReportingDepthIssue(Employee employee, int actualDepth, List<Employee> reportingChain) {
         this(employee, actualDepth, reportingChain, AppConfig.get().getMaxReportingDepth());
@@ -14,6 +14,7 @@ public class SalaryIssue implements Issue {
     private final double expectedMinSalary;
     private final double expectedMaxSalary;
     private final double difference;
+    private final long differenceCents;
     public SalaryIssue(Employee manager,
                        Type type,
                        double subordinatesAverageSalary,
@@ -25,6 +26,38 @@ public class SalaryIssue implements Issue {
         this.expectedMinSalary = expectedMinSalary;
         this.expectedMaxSalary = expectedMaxSalary;
         this.difference = Math.abs(manager.getSalary() - (type == Type.UNDERPAID_ISSUE ? expectedMinSalary : expectedMaxSalary));
+        this.differenceCents = Cents.fromDouble(difference);
+    }
+
+    /**
+     * For the fixed-point checks: the difference comes in already worked out exactly,
+     * in cents. The other amounts are only for display.
+     */
+    public SalaryIssue(Employee manager,
+                       Type type,
+                       double subordinatesAverageSalary,
+                       double expectedMinSalary,
+                       double expectedMaxSalary,
+                       long differenceCents) {
+        this(manager, type, subordinatesAverageSalary, expectedMinSalary, expectedMaxSalary,
+                Cents.toDouble(differenceCents), differenceCents);
+    }
+
+    /** Every field as-is – for rebuilding an issue from an IssueBuffer row. */
+    SalaryIssue(Employee manager,
+                Type type,
+                double subordinatesAverageSalary,
+                double expectedMinSalary,
+                double expectedMaxSalary,
+                double difference,
+                long differenceCents) {
+        this.manager = manager;
+        this.type = type;
+        this.subordinatesAverageSalary = subordinatesAverageSalary;
+        this.expectedMinSalary = expectedMinSalary;
+        this.expectedMaxSalary = expectedMaxSalary;
+        this.difference = difference;
+        this.differenceCents = differenceCents;
     }
 
     @Override
@@ -61,6 +94,11 @@ public class SalaryIssue implements Issue {
         return difference;
     }
     
+    /** getDifference() in whole cents. */
+    public long getDifferenceCents() {
+        return differenceCents;
+    }
+    
     @Override
     public String toString() {
         String issueType = type == Type.UNDERPAID_ISSUE ? "earns less than they should" : "earns more than they should";
@@ -0,0 +1,119 @@
+package org.example.model;
+
+import java.util.Arrays;
+
+/**
+ * Euler-tour (pre-order interval) index over the org chart.
+ *
+ * One depth-first walk from the top numbers every employee in pre-order, so each
+ * subtree is a contiguous run of numbers: y's subtree is [entry(y), exit(y)).
+ * "Is x under y" is then two comparisons, subtree size is a subtraction, and
+ * iterating a subtree is a range scan over employeeAt(). The walk is iterative
+ * (explicit stack), so a very deep org can't overflow the call stack, and it's
+ * linear: every employee is pushed and popped once.
+ *
+ * All positions here are dense employee indexes (see Organization.indexOf).
+ * Reports are visited in ChildIndex order, i.e. input order.
+ */
+public final class SubtreeIndex {
+
+    // entries[i] = pre-order number of employee i; subtree of i is [entries[i], entries[i] + sizes[i])
+    private final int[] entries;
+    private final int[] sizes;
+    // order[n] = employee with pre-order number n
+    private final int[] order;
+
+    private SubtreeIndex(int[] entries, int[] sizes, int[] order) {
+        this.entries = entries;
+        this.sizes = sizes;
+        this.order = order;
+    }
+
+    /**
+     * Walks the forest in the children index, top-level employees first.
+     * Throws IllegalStateException if someone can't be reached from the top (a cycle).
+     */
+    public static SubtreeIndex build(ChildIndex children) {
+        int size = children.size();
+        int[] entries = new int[size];
+        int[] sizes = new int[size];
+        int[] order = new int[size];
+        int[] stack = new int[Math.max(children.rootsEnd(), 16)];
+
+        // Push roots in reverse so the first one comes off the stack first
+        int top = 0;
+        for (int slot = children.rootsEnd() - 1; slot >= 0; slot--) {
+            stack[top++] = children.childAt(slot);
+        }
+
+        int next = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            entries[node] = next;
+            order[next++] = node;
+
+            int count = children.childCount(node);
+            if (top + count > stack.length) {
+                stack = Arrays.copyOf(stack, Math.max(stack.length * 2, top + count));
+            }
+            for (int slot = children.end(node) - 1; slot >= children.start(node); slot--) {
+                stack[top++] = children.childAt(slot);
+            }
+        }
+
+        if (next < size) {
+            throw new IllegalStateException(
+                    String.format("%d employee(s) can't be reached from the top - circular reference", size - next));
+        }
+
+        // Reverse pre-order reaches every report before its manager, so their sizes are final
+        for (int n = size - 1; n >= 0; n--) {
+            int node = order[n];
+            int subtreeSize = 1;
+            for (int slot = children.start(node); slot < children.end(node); slot++) {
+                subtreeSize += sizes[children.childAt(slot)];
+            }
+            sizes[node] = subtreeSize;
+        }
+        return new SubtreeIndex(entries, sizes, order);
+    }
+
+    /** Number of employees indexed. */
+    public int size() {
+        return order.length;
+    }
+
+    /** True if {@code index} is {@code rootIndex} or anywhere under them. O(1). */
+    public boolean isInSubtree(int index, int rootIndex) {
+        int entry = entries[index];
+        return entry >= entries[rootIndex] && entry < entries[rootIndex] + sizes[rootIndex];
+    }
+
+    /** True if {@code index} is anywhere under {@code managerIndex} (not the manager themselves). O(1). */
+    public boolean isUnder(int index, int managerIndex) {
+        return index != managerIndex && isInSubtree(index, managerIndex);
+    }
+
+    /** Employees in this subtree, the root included. */
+    public int subtreeSize(int index) {
+        return sizes[index];
+    }
+
+    /** Pre-order number of this employee – first position of their subtree. */
+    public int entry(int index) {
+        return entries[index];
+    }
+
+    /** One past the last position of this employee's subtree. */
+    public int exit(int index) {
+        return entries[index] + sizes[index];
+    }
+
+    /**
+     * Employee at a pre-order position. Scan [entry(m), exit(m)) to visit m's
+     * whole subtree, m first, with no allocation.
+     */
+    public int employeeAt(int position) {
+        return order[position];
+    }
+}
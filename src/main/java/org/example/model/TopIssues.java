@@ -0,0 +1,69 @@
+package org.example.model;
+
+import java.util.Comparator;
+
+/**
+ * Top-K collector for huge reports: keeps only the K worst underpaid, K worst
+ * overpaid (by difference) and K deepest reporting lines (by excess depth), plus
+ * exact counts of everything seen. Memory is O(K) however many issues there are.
+ *
+ * Ties go to the lower employee ID, so the result doesn't depend on the order
+ * issues come in – collectors filled on different threads can be merged.
+ * Not thread-safe; use one per thread and merge().
+ */
+public final class TopIssues {
+
+    private static final Comparator<SalaryIssue> WORST_SALARY_FIRST =
+            Comparator.comparingDouble(SalaryIssue::getDifference).reversed()
+                    .thenComparingInt(issue -> issue.getManager().getId());
+    private static final Comparator<ReportingDepthIssue> DEEPEST_FIRST =
+            Comparator.comparingInt(ReportingDepthIssue::getExcessDepth).reversed()
+                    .thenComparingInt(issue -> issue.getEmployee().getId());
+
+    private final int limit;
+    private final BoundedHeap<SalaryIssue> underpaid;
+    private final BoundedHeap<SalaryIssue> overpaid;
+    private final BoundedHeap<ReportingDepthIssue> reportingLines;
+
+    /** Keeps at most {@code limit} issues of each kind. */
+    public TopIssues(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.limit = limit;
+        this.underpaid = new BoundedHeap<>(limit, WORST_SALARY_FIRST);
+        this.overpaid = new BoundedHeap<>(limit, WORST_SALARY_FIRST);
+        this.reportingLines = new BoundedHeap<>(limit, DEEPEST_FIRST);
+    }
+
+    public void add(SalaryIssue issue) {
+        if (issue.getType() == Issue.Type.UNDERPAID_ISSUE) {
+            underpaid.offer(issue);
+        } else {
+            overpaid.offer(issue);
+        }
+    }
+
+    public void add(ReportingDepthIssue issue) {
+        reportingLines.offer(issue);
+    }
+
+    /** Folds another collector (same limit) into this one. */
+    public void merge(TopIssues other) {
+        underpaid.merge(other.underpaid);
+        overpaid.merge(other.overpaid);
+        reportingLines.merge(other.reportingLines);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /** Report with the kept issues, worst first, and the full counts. */
+    public AnalysisReport toReport(int totalEmployees, int totalManagers) {
+        return new AnalysisReport(
+                underpaid.toSortedList(), overpaid.toSortedList(), reportingLines.toSortedList(),
+                underpaid.total(), overpaid.total(), reportingLines.total(),
+                totalEmployees, totalManagers, limit);
+    }
+}
@@ -0,0 +1,293 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.AnalysisReport;
+import org.example.model.Cents;
+import org.example.model.Employee;
+import org.example.model.Issue;
+import org.example.model.IssueBuffer;
+import org.example.model.IssueSink;
+import org.example.model.Organization;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+import org.example.model.TopIssues;
+
+import java.util.BitSet;
+
+/**
+ * Fused analysis over a loaded Organization: salary checks, depth checks and
+ * the summary counts in one sweep over the dense indexes, instead of one walk
+ * per analyzer plus a stream per manager.
+ *
+ * The sweep labels every employee's depth (ReportingDepthAnalyzer.computeDepths,
+ * memoized, so each one is resolved once) and checks managers against the report
+ * totals Employee keeps up to date as the hierarchy is wired, so nobody's
+ * subordinates are summed again. Depths follow the same live manager links as
+ * those totals (Organization.getWiredManagerIndex), so the report is one state of the org. Issues come out in
+ * input order, same as SalaryAnalyzer and ReportingDepthAnalyzer – those stay
+ * around as the reference implementation. Issues are kept as primitive rows in an
+ * IssueBuffer; the report's lists build issue objects only when read.
+ *
+ * With fixed-point salaries on (salary.fixed.point), the salary check uses the
+ * exact cents totals instead: salary × count × 10000 against sum × basis points,
+ * all integers, so boundary cases come out the same on every run and platform.
+ *
+ * With a top-K limit (report.top.k) issues go into a TopIssues collector instead
+ * of lists, so only the K worst of each kind are kept, worst first, plus exact counts.
+ *
+ * With analysis.vectorized on (and fixed-point off), the salary check runs up front
+ * as one SalaryRangeKernel pass over every manager, on the Vector API when the JVM
+ * was started with --add-modules jdk.incubator.vector and as a plain loop otherwise.
+ * Same comparisons, so the same report either way.
+ */
+public class AnalysisEngine {
+
+    private final double minMultiplier;
+    private final double maxMultiplier;
+    private final int maxDepth;
+    private final boolean fixedPointSalaries;
+    private final long minBasisPoints;
+    private final long maxBasisPoints;
+    private final int topK;
+    // Batched salary check (analysis.vectorized); null = check each manager inline
+    private final SalaryRangeKernel kernel;
+
+    public AnalysisEngine() {
+        this(AppConfig.get());
+    }
+
+    /** For testing with custom config. */
+    public AnalysisEngine(AppConfig config) {
+        this(config, config.isFixedPointSalaries());
+    }
+
+    /** Custom config, with the fixed-point salary mode switched on or off explicitly. */
+    public AnalysisEngine(AppConfig config, boolean fixedPointSalaries) {
+        this(config, fixedPointSalaries, config.getReportTopK());
+    }
+
+    /** As above, plus a top-K limit per issue kind (0 = keep every issue). */
+    public AnalysisEngine(AppConfig config, boolean fixedPointSalaries, int topK) {
+        this(config, fixedPointSalaries, topK, config.isVectorizedAnalysis());
+    }
+
+    /**
+     * As above, with the batched salary check switched on or off explicitly. It only
+     * applies to double salaries; fixed-point mode always checks in exact cents.
+     */
+    public AnalysisEngine(AppConfig config, boolean fixedPointSalaries, int topK, boolean vectorized) {
+        if (topK < 0) {
+            throw new IllegalArgumentException("Top-K limit cannot be negative");
+        }
+        this.minMultiplier = config.getMinSalaryMultiplier();
+        this.maxMultiplier = config.getMaxSalaryMultiplier();
+        this.maxDepth = config.getMaxReportingDepth();
+        this.fixedPointSalaries = fixedPointSalaries;
+        this.minBasisPoints = Cents.toBasisPoints(minMultiplier);
+        this.maxBasisPoints = Cents.toBasisPoints(maxMultiplier);
+        this.topK = topK;
+        this.kernel = vectorized && !fixedPointSalaries ? SalaryRangeKernel.best() : null;
+    }
+
+    /** True if the salary check runs on the Vector API. */
+    public boolean isVectorized() {
+        return kernel != null && kernel.isVectorized();
+    }
+
+    /**
+     * Runs every check and returns the combined report. Expects a valid, wired
+     * organization (e.g. from OrganizationBuilder); cycles throw IllegalStateException.
+     */
+    public AnalysisReport analyze(Organization org) {
+        int size = org.size();
+        int[] depths = ReportingDepthAnalyzer.computeDepths(org);
+        byte[] salaryFlags = salaryFlags(org);
+        IssueBuffer buffer = new IssueBuffer(org, maxDepth);
+        TopIssues top = newTopIssues();
+        int managerCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            Employee employee = org.getEmployeeAt(i);
+
+            if (employee.isManager()) {
+                managerCount++;
+                SalaryIssue issue = checkManager(employee, salaryFlags, i);
+                if (issue != null && top != null) {
+                    top.add(issue);
+                } else if (issue != null) {
+                    buffer.add(i, issue);
+                }
+            }
+
+            int depth = depths[i];
+            if (depth > maxDepth && top != null) {
+                top.add(new ReportingDepthIssue(employee, depth, maxDepth));
+            } else if (depth > maxDepth) {
+                buffer.addReportingDepthIssue(i, depth);
+            }
+        }
+
+        return top != null
+                ? top.toReport(size, managerCount)
+                : buffer.toReport(size, managerCount);
+    }
+
+    /**
+     * Streaming version: hands each issue to {@code sink} as soon as it's found and
+     * keeps none of them. The sink wants whole sections in order, so this takes three
+     * sweeps. The first checks every manager once, passes underpaid ones straight on
+     * and only marks overpaid ones in a bitset; the second builds issues for the marked
+     * managers; the third does depth. Every issue is passed on; the top-K limit doesn't apply.
+     */
+    public void analyze(Organization org, IssueSink sink) {
+        int size = org.size();
+        int managerCount = 0;
+        BitSet overpaid = new BitSet(size);
+        byte[] salaryFlags = salaryFlags(org);
+
+        sink.startSection(Issue.Type.UNDERPAID_ISSUE);
+        for (int i = 0; i < size; i++) {
+            Employee employee = org.getEmployeeAt(i);
+            if (employee.isManager()) {
+                managerCount++;
+                Issue.Type verdict = salaryVerdict(employee, salaryFlags, i);
+                if (verdict == Issue.Type.UNDERPAID_ISSUE) {
+                    sink.accept(salaryIssue(employee, verdict));
+                } else if (verdict == Issue.Type.OVERPAID_ISSUE) {
+                    overpaid.set(i);
+                }
+            }
+        }
+
+        sink.startSection(Issue.Type.OVERPAID_ISSUE);
+        for (int i = overpaid.nextSetBit(0); i >= 0; i = overpaid.nextSetBit(i + 1)) {
+            sink.accept(salaryIssue(org.getEmployeeAt(i), Issue.Type.OVERPAID_ISSUE));
+        }
+
+        sink.startSection(Issue.Type.HIERARCHY_DEPTH_ISSUE);
+        int[] depths = ReportingDepthAnalyzer.computeDepths(org);
+        for (int i = 0; i < size; i++) {
+            int depth = depths[i];
+            if (depth > maxDepth) {
+                sink.accept(new ReportingDepthIssue(org.getEmployeeAt(i), depth, maxDepth));
+            }
+        }
+
+        sink.finish(size, managerCount);
+    }
+
+    /** Salary check for a manager against their running report totals. Null if the salary is fine. */
+    SalaryIssue checkManager(Employee manager) {
+        Issue.Type verdict = salaryVerdict(manager);
+        return verdict == null ? null : salaryIssue(manager, verdict);
+    }
+
+    /** checkManager, taking the verdict from salaryFlags when they were worked out up front. */
+    SalaryIssue checkManager(Employee manager, byte[] salaryFlags, int index) {
+        Issue.Type verdict = salaryVerdict(manager, salaryFlags, index);
+        return verdict == null ? null : salaryIssue(manager, verdict);
+    }
+
+    /**
+     * Runs the salary check for every manager in one kernel pass and returns the
+     * verdicts (SalaryRangeKernel flags) by employee index. Null unless analysis.vectorized
+     * is on; then the checks run inline.
+     */
+    byte[] salaryFlags(Organization org) {
+        if (kernel == null) {
+            return null;
+        }
+        int size = org.size();
+        int[] managers = new int[size];
+        double[] salaries = new double[size];
+        double[] averages = new double[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            Employee employee = org.getEmployeeAt(i);
+            if (employee.isManager()) {
+                managers[count] = i;
+                salaries[count] = employee.getSalary();
+                averages[count++] = employee.getAvgSalaryOfSubordinates();
+            }
+        }
+
+        byte[] managerFlags = new byte[count];
+        kernel.flag(salaries, averages, count, minMultiplier, maxMultiplier, managerFlags);
+
+        byte[] flags = new byte[size];
+        for (int m = 0; m < count; m++) {
+            flags[managers[m]] = managerFlags[m];
+        }
+        return flags;
+    }
+
+    /** salaryVerdict, or the kernel's verdict for this index when salaryFlags isn't null. */
+    Issue.Type salaryVerdict(Employee manager, byte[] salaryFlags, int index) {
+        if (salaryFlags == null) {
+            return salaryVerdict(manager);
+        }
+        return switch (salaryFlags[index]) {
+            case SalaryRangeKernel.UNDERPAID -> Issue.Type.UNDERPAID_ISSUE;
+            case SalaryRangeKernel.OVERPAID -> Issue.Type.OVERPAID_ISSUE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Just the verdict of checkManager – UNDERPAID_ISSUE, OVERPAID_ISSUE or null – without
+     * building an issue. With fixed-point salaries it compares salary × count × 10000 with
+     * sum × basis points as exact 128-bit products; otherwise salary against avg × multiplier.
+     */
+    Issue.Type salaryVerdict(Employee manager) {
+        if (fixedPointSalaries) {
+            long salary = manager.getSalaryCents();
+            // count × 10000 fits a long for any int count; the products are compared as 128 bits
+            long scaledCount = manager.getDirectReportCount() * Cents.BASIS_POINTS;
+            long sum = manager.getDirectReportSalaryCents();
+            if (Cents.compareProducts(salary, scaledCount, sum, minBasisPoints) < 0) {
+                return Issue.Type.UNDERPAID_ISSUE;
+            }
+            if (Cents.compareProducts(salary, scaledCount, sum, maxBasisPoints) > 0) {
+                return Issue.Type.OVERPAID_ISSUE;
+            }
+            return null;
+        }
+
+        double avg = manager.getAvgSalaryOfSubordinates();
+        if (manager.getSalary() < avg * minMultiplier) {
+            return Issue.Type.UNDERPAID_ISSUE;
+        }
+        if (manager.getSalary() > avg * maxMultiplier) {
+            return Issue.Type.OVERPAID_ISSUE;
+        }
+        return null;
+    }
+
+    /**
+     * The issue for a manager salaryVerdict() already put on the wrong side of a bound.
+     * In fixed-point mode the difference is worked out exactly in cents; the doubles are
+     * only for display.
+     */
+    SalaryIssue salaryIssue(Employee manager, Issue.Type type) {
+        if (fixedPointSalaries) {
+            long sum = manager.getDirectReportSalaryCents();
+            int count = manager.getDirectReportCount();
+            long basisPoints = type == Issue.Type.UNDERPAID_ISSUE ? minBasisPoints : maxBasisPoints;
+            double avg = Cents.toDouble(sum) / count;
+            return new SalaryIssue(manager, type, avg, avg * minMultiplier, avg * maxMultiplier,
+                    Cents.thresholdDifference(manager.getSalaryCents(), sum, count, basisPoints));
+        }
+
+        double avg = manager.getAvgSalaryOfSubordinates();
+        return new SalaryIssue(manager, type, avg, avg * minMultiplier, avg * maxMultiplier);
+    }
+
+    /** A fresh top-K collector, or null if every issue is kept. */
+    TopIssues newTopIssues() {
+        return topK > 0 ? new TopIssues(topK) : null;
+    }
+
+    int getMaxDepth() {
+        return maxDepth;
+    }
+}
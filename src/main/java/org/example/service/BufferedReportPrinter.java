@@ -0,0 +1,369 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.AnalysisReport;
+import org.example.model.Employee;
+import org.example.model.Issue;
+import org.example.model.IssueSink;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Same report as ReportPrinter, byte for byte, minus the per-line cost.
+ *
+ * Everything is appended into one reusable char buffer: amounts and counts go
+ * through CurrencyFormat instead of printf, names are copied first + ' ' + last
+ * instead of building getFullName() strings, and chain hops are appended piece by
+ * piece. The buffer is encoded and written out in 64K-char blocks, so a report
+ * with hundreds of thousands of issues makes a handful of writes and hardly any garbage.
+ *
+ * Encoding matches a PrintStream on the same stream (default charset unless given,
+ * unmappable chars replaced). Write failures come out as UncheckedIOException.
+ */
+public class BufferedReportPrinter implements ReportWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String SEPARATOR = "═".repeat(70);
+    private static final String SECTION_SEPARATOR = "─".repeat(70);
+    private static final String NEW_LINE = System.lineSeparator();
+
+    private final OutputStream output;
+    private final AppConfig config;
+    private final Locale locale;
+    private final CurrencyFormat numbers;
+    private final CharsetEncoder encoder;
+    private final char[] chars = new char[BUFFER_SIZE];
+    private final ByteBuffer bytes;
+    // Chars waiting in the buffer
+    private int length;
+
+    /** Default: writes to stdout. */
+    public BufferedReportPrinter() {
+        this(System.out);
+    }
+
+    public BufferedReportPrinter(OutputStream output) {
+        this(output, AppConfig.get());
+    }
+
+    public BufferedReportPrinter(OutputStream output, AppConfig config) {
+        this(output, Charset.defaultCharset(), config);
+    }
+
+    public BufferedReportPrinter(OutputStream output, Charset charset, AppConfig config) {
+        this.output = output;
+        this.config = config;
+        this.locale = Locale.getDefault(Locale.Category.FORMAT);
+        this.numbers = new CurrencyFormat(locale);
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // Room for a whole buffer of chars, so one flush is one encode and one write
+        this.bytes = ByteBuffer.allocate((int) Math.ceil(BUFFER_SIZE * (double) encoder.maxBytesPerChar()));
+    }
+
+    @Override
+    public void printReport(AnalysisReport report) {
+        writeHeader();
+        writeSummary(report.getTotalEmployees(), report.getTotalManagers(), report.getTotalIssueCount());
+        writeSalarySection(Issue.Type.UNDERPAID_ISSUE, report.getUnderpaidManagers(), report.getUnderpaidCount());
+        writeSalarySection(Issue.Type.OVERPAID_ISSUE, report.getOverpaidManagers(), report.getOverpaidCount());
+
+        List<ReportingDepthIssue> depthIssues = report.getReportingLineIssues();
+        writeReportingLineHeading();
+        writeTruncation(depthIssues.size(), report.getReportingLineIssueCount());
+        newLine();
+        if (depthIssues.isEmpty()) {
+            line("  No issues found.");
+        } else {
+            for (ReportingDepthIssue issue : depthIssues) {
+                writeReportingLineIssue(issue);
+            }
+        }
+        newLine();
+
+        writeFooter(report.hasIssues());
+        flush();
+    }
+
+    /** Header now, then a sink laid out like ReportPrinter.streamReport(). Flushed on finish(). */
+    @Override
+    public IssueSink streamReport() {
+        writeHeader();
+        return new StreamingSink();
+    }
+
+    private void writeHeader() {
+        newLine();
+        line(SEPARATOR);
+        line("        EMPLOYEE ORGANIZATIONAL STRUCTURE ANALYSIS REPORT");
+        line(SEPARATOR);
+        newLine();
+    }
+
+    private void writeSummary(int totalEmployees, int totalManagers, int issueCount) {
+        line("SUMMARY");
+        line(SECTION_SEPARATOR);
+        append("Total employees analyzed: ");
+        appendInt(totalEmployees);
+        newLine();
+        append("Total managers: ");
+        appendInt(totalManagers);
+        newLine();
+        append("Issues found: ");
+        appendInt(issueCount);
+        newLine();
+        newLine();
+    }
+
+    private void writeSalarySection(Issue.Type type, List<SalaryIssue> issues, int count) {
+        writeSalaryHeading(type);
+        writeTruncation(issues.size(), count);
+        newLine();
+        if (issues.isEmpty()) {
+            line("  No issues found.");
+        } else {
+            for (SalaryIssue issue : issues) {
+                writeSalaryIssue(issue);
+            }
+        }
+        newLine();
+    }
+
+    private void writeSalaryHeading(Issue.Type type) {
+        boolean underpaid = type == Issue.Type.UNDERPAID_ISSUE;
+        line(underpaid ? "MANAGERS WHO EARN LESS THAN THEY SHOULD" : "MANAGERS WHO EARN MORE THAN THEY SHOULD");
+        line(SECTION_SEPARATOR);
+        append("(Managers should earn ");
+        append(underpaid ? "at least " : "no more than ");
+        appendInt(underpaid ? config.getMinSalaryPercent() : config.getMaxSalaryPercent());
+        line("% more than their direct subordinates' average)");
+    }
+
+    private void writeSalaryIssue(SalaryIssue issue) {
+        writeNameAndId(issue.getManager());
+        append("      Current salary: $");
+        appendAmount(issue.getCurrentSalary());
+        newLine();
+        append("      Subordinates' average: $");
+        appendAmount(issue.getSubordinatesAverageSalary());
+        newLine();
+        append("      Expected range: $");
+        appendAmount(issue.getExpectedMinSalary());
+        append(" - $");
+        appendAmount(issue.getExpectedMaxSalary());
+        newLine();
+        append(issue.getType() == Issue.Type.UNDERPAID_ISSUE ? "      Underpaid by: $" : "      Overpaid by: $");
+        appendAmount(issue.getDifference());
+        newLine();
+        newLine();
+    }
+
+    private void writeReportingLineHeading() {
+        line("EMPLOYEES WITH REPORTING LINE TOO LONG");
+        line(SECTION_SEPARATOR);
+        append("(Maximum allowed: ");
+        appendInt(config.getMaxReportingDepth());
+        line(" managers between employee and CEO)");
+    }
+
+    private void writeReportingLineIssue(ReportingDepthIssue issue) {
+        writeNameAndId(issue.getEmployee());
+        append("      Reporting line depth: ");
+        appendInt(issue.getActualDepth());
+        append(" (exceeds by ");
+        appendInt(issue.getExcessDepth());
+        line(")");
+        append("      Chain: ");
+        appendName(issue.getEmployee());
+        for (Employee manager : issue.getReportingChain()) {
+            append(" → ");
+            appendName(manager);
+        }
+        line(" (CEO)");
+        newLine();
+    }
+
+    /** "  • First Last (ID: 42)" */
+    private void writeNameAndId(Employee employee) {
+        append("  • ");
+        appendName(employee);
+        append(" (ID: ");
+        appendInt(employee.getId());
+        line(")");
+    }
+
+    private void writeTruncation(int shown, int count) {
+        if (count > shown) {
+            append("(Showing the ");
+            appendInt(shown);
+            append(" worst of ");
+            appendInt(count);
+            line(")");
+        }
+    }
+
+    private void writeFooter(boolean hasIssues) {
+        line(SEPARATOR);
+        line(hasIssues
+                ? "Analysis complete. Please review the issues above."
+                : "Analysis complete. No issues found in the organizational structure.");
+        line(SEPARATOR);
+        newLine();
+    }
+
+    // --- Buffer ---
+
+    /** What getFullName() would give, without building it. */
+    private void appendName(Employee employee) {
+        append(employee.getFirstName());
+        append(' ');
+        append(employee.getLastName());
+    }
+
+    private void appendAmount(double value) {
+        ensureRoom(CurrencyFormat.MAX_LENGTH);
+        int end = numbers.appendAmount(value, chars, length);
+        if (end < 0) {
+            append(String.format(locale, "%,.2f", value));
+        } else {
+            length = end;
+        }
+    }
+
+    private void appendInt(int value) {
+        ensureRoom(CurrencyFormat.MAX_LENGTH);
+        int end = numbers.appendInt(value, chars, length);
+        if (end < 0) {
+            append(String.format(locale, "%d", value));
+        } else {
+            length = end;
+        }
+    }
+
+    private void line(String text) {
+        append(text);
+        newLine();
+    }
+
+    private void newLine() {
+        append(NEW_LINE);
+    }
+
+    private void append(char c) {
+        ensureRoom(1);
+        chars[length++] = c;
+    }
+
+    private void append(String text) {
+        if (text == null) {
+            text = "null";
+        }
+        int from = 0;
+        while (from < text.length()) {
+            ensureRoom(1);
+            int count = Math.min(text.length() - from, chars.length - length);
+            text.getChars(from, from + count, chars, length);
+            length += count;
+            from += count;
+        }
+    }
+
+    private void ensureRoom(int count) {
+        if (chars.length - length < count) {
+            writeChars();
+        }
+    }
+
+    /** Encodes the buffer and writes it out in one go. A split surrogate pair waits for the next block. */
+    private void writeChars() {
+        CharBuffer pending = CharBuffer.wrap(chars, 0, length);
+        bytes.clear();
+        encoder.encode(pending, bytes, false);
+        int left = pending.remaining();
+        System.arraycopy(chars, pending.position(), chars, 0, left);
+        length = left;
+        try {
+            output.write(bytes.array(), 0, bytes.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flush() {
+        writeChars();
+        try {
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Writes sections as the issues arrive; only counts are kept. */
+    private class StreamingSink implements IssueSink {
+
+        private boolean sectionOpen;
+        private int sectionCount;
+        private int issueCount;
+
+        @Override
+        public void startSection(Issue.Type section) {
+            closeSection();
+            if (section == Issue.Type.HIERARCHY_DEPTH_ISSUE) {
+                writeReportingLineHeading();
+            } else {
+                writeSalaryHeading(section);
+            }
+            newLine();
+            sectionOpen = true;
+        }
+
+        @Override
+        public void accept(SalaryIssue issue) {
+            countIssue();
+            writeSalaryIssue(issue);
+        }
+
+        @Override
+        public void accept(ReportingDepthIssue issue) {
+            countIssue();
+            writeReportingLineIssue(issue);
+        }
+
+        @Override
+        public void finish(int totalEmployees, int totalManagers) {
+            closeSection();
+            writeSummary(totalEmployees, totalManagers, issueCount);
+            writeFooter(issueCount > 0);
+            flush();
+        }
+
+        private void countIssue() {
+            sectionCount++;
+            issueCount++;
+        }
+
+        private void closeSection() {
+            if (!sectionOpen) {
+                return;
+            }
+            if (sectionCount == 0) {
+                line("  No issues found.");
+            }
+            newLine();
+            sectionOpen = false;
+            sectionCount = 0;
+        }
+    }
+}
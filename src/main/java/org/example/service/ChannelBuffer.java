@@ -0,0 +1,127 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A 64K byte buffer in front of a channel, with just enough writing helpers for
+ * the machine-readable report formats: ASCII literals, UTF-8 text, integers and
+ * two-decimal amounts, all encoded by hand straight into the buffer. Full blocks
+ * go to the channel as they fill up; flush() sends the rest.
+ * Write failures come out as UncheckedIOException.
+ */
+final class ChannelBuffer {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final WritableByteChannel channel;
+    private final byte[] bytes = new byte[BUFFER_SIZE];
+    private final ByteBuffer view = ByteBuffer.wrap(bytes);
+    private final CurrencyFormat numbers = CurrencyFormat.plain();
+    private final char[] digits = new char[CurrencyFormat.MAX_LENGTH];
+    // Bytes waiting in the buffer
+    private int length;
+
+    ChannelBuffer(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /** A literal that's known to be ASCII (field names, punctuation). */
+    void ascii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            ascii(text.charAt(i));
+        }
+    }
+
+    void ascii(char c) {
+        ensureRoom(1);
+        bytes[length++] = (byte) c;
+    }
+
+    /** All of {@code text} as UTF-8, no escaping. */
+    void utf8(String text) {
+        int i = 0;
+        while (i < text.length()) {
+            i = utf8(text, i);
+        }
+    }
+
+    /**
+     * The char at {@code i} as UTF-8 (both halves, if it starts a surrogate pair).
+     * Returns the index after it. Broken surrogates come out as '?', like the JDK encoders.
+     */
+    int utf8(String text, int i) {
+        ensureRoom(4);
+        char c = text.charAt(i++);
+        if (c < 0x80) {
+            bytes[length++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[length++] = (byte) (0xC0 | c >> 6);
+            bytes[length++] = (byte) (0x80 | c & 0x3F);
+        } else if (!Character.isSurrogate(c)) {
+            bytes[length++] = (byte) (0xE0 | c >> 12);
+            bytes[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+            bytes[length++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c) && i < text.length() && Character.isLowSurrogate(text.charAt(i))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(i++));
+            bytes[length++] = (byte) (0xF0 | codePoint >> 18);
+            bytes[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+            bytes[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+            bytes[length++] = (byte) (0x80 | codePoint & 0x3F);
+        } else {
+            bytes[length++] = '?';
+        }
+        return i;
+    }
+
+    void integer(int value) {
+        ensureRoom(CurrencyFormat.MAX_LENGTH);
+        length = copyDigits(numbers.appendInt(value, digits, 0));
+    }
+
+    /**
+     * Amount rounded to cents, "1234.50" – same rounding as the text report, no grouping.
+     * Must be finite.
+     */
+    void amount(double value) {
+        ensureRoom(CurrencyFormat.MAX_LENGTH);
+        int end = numbers.appendAmount(value, digits, 0);
+        if (end < 0) {
+            // Too big for the fast path; BigDecimal.valueOf rounds the same decimal form Formatter does
+            ascii(BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP).toPlainString());
+        } else {
+            length = copyDigits(end);
+        }
+    }
+
+    /** Sends everything buffered so far to the channel. */
+    void flush() {
+        view.clear().limit(length);
+        try {
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        length = 0;
+    }
+
+    private int copyDigits(int end) {
+        int at = length;
+        for (int i = 0; i < end; i++) {
+            bytes[at++] = (byte) digits[i];
+        }
+        return at;
+    }
+
+    private void ensureRoom(int count) {
+        if (bytes.length - length < count) {
+            flush();
+        }
+    }
+}
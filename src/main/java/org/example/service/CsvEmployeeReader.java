@@ -1,60 +1,118 @@
 package org.example.service;
 
+import org.example.model.Cents;
 import org.example.model.Employee;
+import org.example.model.OrgTable;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Reads the employee CSV. Expects: Id,firstName,lastName,salary,managerId
  * First row is header (skipped), empty managerId = CEO.
+ *
+ * With fixed-point salaries on, the salary column goes straight from text to
+ * whole cents (Cents.parse) – at most two decimals, no double on the way in.
  */
 public class CsvEmployeeReader {
     
     private static final String DELIMITER = ",";
     private static final int EXPECTED_COLUMNS = 5;
     
+    private final boolean fixedPointSalaries;
+    
+    public CsvEmployeeReader() {
+        this(false);
+    }
+    
+    /** Pass true to parse salaries as exact cents. */
+    public CsvEmployeeReader(boolean fixedPointSalaries) {
+        this.fixedPointSalaries = fixedPointSalaries;
+    }
+    
+    /** True if salaries are parsed as exact cents. */
+    public boolean isFixedPointSalaries() {
+        return fixedPointSalaries;
+    }
+    
     /** Parse the CSV and return employees. Throws on bad data. */
     public List<Employee> readEmployees(Path filePath) throws IOException {
         List<Employee> employees = new ArrayList<>();
+        forEachEmployee(filePath, employees::add);
+        return employees;
+    }
+    
+    /**
+     * Hands each employee to the action as soon as it's parsed, straight off
+     * streamEmployees, so nothing is collected here. Same errors as readEmployees,
+     * including for a file without data rows. Returns how many employees were read.
+     */
+    public int forEachEmployee(Path filePath, Consumer<? super Employee> action) throws IOException {
+        int count = 0;
         
-        try (BufferedReader reader = Files.newBufferedReader(filePath)) {
-            // Skip header line
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
-                throw new IOException("Empty CSV file");
-            }
-            
-            String line;
-            int lineNumber = 1; // Header is line 1
-            
-            while ((line = reader.readLine()) != null) {
-                lineNumber++;
-                
-                // Skip empty lines
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
-                
-                try {
-                    Employee employee = parseLine(line);
-                    employees.add(employee);
-                } catch (IllegalArgumentException e) {
-                    throw new IOException(
-                            String.format("Error parsing line %d: %s - %s", lineNumber, line, e.getMessage()));
-                }
+        try (Stream<Employee> stream = streamEmployees(filePath)) {
+            Iterator<Employee> employees = stream.iterator();
+            while (employees.hasNext()) {
+                action.accept(employees.next());
+                count++;
             }
+        } catch (ReadFailure e) {
+            // Only the reader's own failures; whatever the action throws goes through as is
+            throw e.getCause();
         }
         
-        if (employees.isEmpty()) {
+        if (count == 0) {
             throw new IOException("No employee data found in file");
         }
         
-        return employees;
+        return count;
+    }
+    
+    /**
+     * Lazily parses the CSV as a stream – rows are read only as the stream is consumed,
+     * so counts and aggregates never hold the whole file. Close the stream when done
+     * (try-with-resources). The header is checked up front; a bad row surfaces as an
+     * UncheckedIOException wrapping the same IOException readEmployees would throw.
+     * Unlike readEmployees and forEachEmployee, a header-only file gives an empty stream.
+     */
+    public Stream<Employee> streamEmployees(Path filePath) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(filePath);
+        try {
+            // Skip header line
+            if (reader.readLine() == null) {
+                throw new IOException("Empty CSV file");
+            }
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+        
+        return StreamSupport.stream(new LineSpliterator(reader), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new ReadFailure(e);
+                    }
+                });
+    }
+    
+    /**
+     * Parse the CSV into a columnar OrgTable. This default copies from readEmployees;
+     * MappedCsvEmployeeReader fills the columns straight from the file bytes.
+     */
+    public OrgTable readTable(Path filePath) throws IOException {
+        return OrgTable.from(readEmployees(filePath));
     }
     
     /** Parse one line into an Employee. */
@@ -70,7 +128,9 @@ public class CsvEmployeeReader {
             int id = Integer.parseInt(parts[0].trim());
             String firstName = parts[1].trim();
             String lastName = parts[2].trim();
-            double salary = Double.parseDouble(parts[3].trim());
+            String salaryStr = parts[3].trim();
+            long salaryCents = fixedPointSalaries ? Cents.parse(salaryStr) : 0;
+            double salary = fixedPointSalaries ? Cents.toDouble(salaryCents) : Double.parseDouble(salaryStr);
             
             // Manager ID is optional (empty for CEO)
             Integer managerId = null;
@@ -81,7 +141,9 @@ public class CsvEmployeeReader {
             
             validateEmployeeData(id, firstName, lastName, salary);
             
-            return new Employee(id, firstName, lastName, salary, managerId);
+            return fixedPointSalaries
+                    ? Employee.ofCents(id, firstName, lastName, salaryCents, managerId)
+                    : new Employee(id, firstName, lastName, salary, managerId);
             
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Invalid number format: " + e.getMessage());
@@ -103,5 +165,55 @@ public class CsvEmployeeReader {
             throw new IllegalArgumentException("Salary cannot be negative");
         }
     }
+    
+    /** Pulls one non-empty line per tryAdvance from the reader. */
+    private class LineSpliterator extends Spliterators.AbstractSpliterator<Employee> {
+        
+        private final BufferedReader reader;
+        private int lineNumber = 1; // Header is line 1
+        
+        LineSpliterator(BufferedReader reader) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+            this.reader = reader;
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super Employee> action) {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    
+                    // Skip empty lines
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    
+                    Employee employee;
+                    try {
+                        employee = parseLine(line);
+                    } catch (IllegalArgumentException e) {
+                        throw new IOException(
+                                String.format("Error parsing line %d: %s - %s", lineNumber, line, e.getMessage()));
+                    }
+                    action.accept(employee);
+                    return true;
+                }
+                return false;
+            } catch (IOException e) {
+                throw new ReadFailure(e);
+            }
+        }
+    }
+    
+    /**
+     * How the readers' streams carry their own IOExceptions, so forEachEmployee can
+     * unwrap exactly those and leave an UncheckedIOException from the caller's code alone.
+     */
+    static final class ReadFailure extends UncheckedIOException {
+        
+        ReadFailure(IOException cause) {
+            super(cause);
+        }
+    }
 }
-
@@ -0,0 +1,250 @@
+package org.example.service;
+
+import org.example.model.Cents;
+import org.example.model.Employee;
+import org.example.model.OrgTable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Byte-level parser for one CSV record: Id,firstName,lastName,salary,managerId.
+ *
+ * Splits and trims fields in place and parses the numbers straight from the bytes.
+ * Only the two names are turned into Strings, and only once the record is valid.
+ * Anything outside the plain-ASCII fast paths falls back to Integer.parseInt /
+ * Double.parseDouble, so accepted input and error messages match CsvEmployeeReader.
+ * With fixed-point salaries on, the salary column goes straight from the bytes to
+ * whole cents, under the same rules and messages as Cents.parse.
+ *
+ * Not thread-safe – the parsed fields live on the instance until the next parse().
+ */
+class CsvRecordParser {
+
+    private static final int EXPECTED_COLUMNS = 5;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // Field boundaries of the current record, already trimmed
+    private final int[] starts = new int[EXPECTED_COLUMNS];
+    private final int[] ends = new int[EXPECTED_COLUMNS];
+    private final boolean fixedPointSalaries;
+
+    private ByteBuffer buffer;
+    private int id;
+    private double salary;
+    private long salaryCents;
+    private boolean hasManager;
+    private int managerId;
+
+    CsvRecordParser() {
+        this(false);
+    }
+
+    /** Pass true to parse salaries as exact cents, like CsvEmployeeReader(true). */
+    CsvRecordParser(boolean fixedPointSalaries) {
+        this.fixedPointSalaries = fixedPointSalaries;
+    }
+
+    /** True if the line is empty or whitespace only (same rule as String.trim().isEmpty()). */
+    static boolean isBlank(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if ((buffer.get(i) & 0xFF) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Decodes a byte range as UTF-8. */
+    static String decode(ByteBuffer buffer, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Parse the record in {@code [start, end)}. Throws IllegalArgumentException on bad data. */
+    void parse(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        splitFields(start, end);
+
+        try {
+            id = parseInt(starts[0], ends[0]);
+            if (fixedPointSalaries) {
+                salaryCents = parseCents(starts[3], ends[3]);
+                salary = Cents.toDouble(salaryCents);
+            } else {
+                salary = parseDouble(starts[3], ends[3]);
+            }
+
+            // Manager ID is optional (empty for CEO)
+            hasManager = starts[4] != ends[4];
+            managerId = hasManager ? parseInt(starts[4], ends[4]) : 0;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number format: " + e.getMessage());
+        }
+
+        validate();
+    }
+
+    /** Builds an Employee from the last parsed record. */
+    Employee toEmployee() {
+        String firstName = decode(buffer, starts[1], ends[1]);
+        String lastName = decode(buffer, starts[2], ends[2]);
+        Integer manager = hasManager ? managerId : null;
+        return fixedPointSalaries
+                ? Employee.ofCents(id, firstName, lastName, salaryCents, manager)
+                : new Employee(id, firstName, lastName, salary, manager);
+    }
+
+    /** Appends the last parsed record to a columnar table, copying the name bytes as-is. */
+    void appendTo(OrgTable.Builder builder) {
+        builder.add(id, buffer, starts[1], ends[1], starts[2], ends[2], salary, hasManager, managerId);
+    }
+
+    private void splitFields(int start, int end) {
+        int column = 0;
+        int fieldStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || buffer.get(i) == ',') {
+                if (column < EXPECTED_COLUMNS) {
+                    trim(column, fieldStart, i);
+                }
+                column++;
+                fieldStart = i + 1;
+            }
+        }
+        if (column != EXPECTED_COLUMNS) {
+            throw new IllegalArgumentException(
+                    String.format("Expected %d columns but found %d", EXPECTED_COLUMNS, column));
+        }
+    }
+
+    private void trim(int column, int start, int end) {
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        starts[column] = start;
+        ends[column] = end;
+    }
+
+    /** Same order of checks as CsvEmployeeReader.validateEmployeeData. */
+    private void validate() {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Employee ID must be positive");
+        }
+        if (starts[1] == ends[1]) {
+            throw new IllegalArgumentException("First name cannot be empty");
+        }
+        if (starts[2] == ends[2]) {
+            throw new IllegalArgumentException("Last name cannot be empty");
+        }
+        if (salary < 0) {
+            throw new IllegalArgumentException("Salary cannot be negative");
+        }
+    }
+
+    /** Optional sign plus up to 9 ASCII digits – can't overflow. Everything else goes to Integer.parseInt. */
+    private int parseInt(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        int digits = end - i;
+        if (digits == 0 || digits > 9) {
+            return Integer.parseInt(decode(buffer, start, end));
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            int d = buffer.get(i) - '0';
+            if (d < 0 || d > 9) {
+                return Integer.parseInt(decode(buffer, start, end));
+            }
+            value = value * 10 + d;
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Plain decimals ([sign]digits[.digits]) whose digits fit in 2^53 are exact doubles
+     * divided by an exact power of ten, so the single rounding matches Double.parseDouble.
+     * Exponents, long mantissas, NaN etc. go to Double.parseDouble.
+     */
+    private double parseDouble(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            int d = b - '0';
+            if (d < 0 || d > 9 || ++digits > 18) {
+                return Double.parseDouble(decode(buffer, start, end));
+            }
+            mantissa = mantissa * 10 + d;
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        if (digits == 0 || mantissa > MAX_EXACT_MANTISSA || fractionDigits >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(decode(buffer, start, end));
+        }
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * [sign]digits[.d[d]] with up to Cents.MAX_INTEGER_DIGITS digits before the point,
+     * straight into cents. Anything else goes to Cents.parse, which accepts or rejects
+     * it with its own message.
+     */
+    private long parseCents(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (buffer.get(i) == '-' || buffer.get(i) == '+')) {
+            negative = buffer.get(i) == '-';
+            i++;
+        }
+        long value = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            int d = b - '0';
+            if (d < 0 || d > 9
+                    || (fractionDigits < 0 ? ++digits > Cents.MAX_INTEGER_DIGITS : ++fractionDigits > 2)) {
+                return Cents.parse(decode(buffer, start, end));
+            }
+            value = value * 10 + d;
+        }
+        if (digits == 0) {
+            return Cents.parse(decode(buffer, start, end));
+        }
+        // "12" and "12.5" still need scaling up to cents
+        for (int scale = Math.max(fractionDigits, 0); scale < 2; scale++) {
+            value *= 10;
+        }
+        return negative ? -value : value;
+    }
+}
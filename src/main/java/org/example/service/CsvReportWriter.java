@@ -0,0 +1,126 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The report as CSV (RFC 4180 quoting, UTF-8, '\n' line ends): a header row, then
+ * one row per issue. Salary rows leave the depth columns empty and the other way
+ * round. The chain is manager IDs, nearest first, separated by ';'.
+ *
+ *   type,id,first_name,last_name,salary,...,difference,depth,max_allowed_depth,excess_depth,chain
+ *   UNDERPAID_ISSUE,101,John,Doe,50000.00,45000.00,54000.00,67500.00,4000.00,,,,
+ *   HIERARCHY_DEPTH_ISSUE,7,Ann,Lee,,,,,,6,4,2,6;5;4;3;2;1
+ *
+ * There's no summary row, so every row has the same shape – use JSON Lines for the totals.
+ */
+public class CsvReportWriter extends RecordReportWriter {
+
+    static final String HEADER = "type,id,first_name,last_name,salary,subordinates_average,"
+            + "expected_min,expected_max,difference,depth,max_allowed_depth,excess_depth,chain\n";
+
+    public CsvReportWriter(WritableByteChannel channel) {
+        super(channel);
+    }
+
+    @Override
+    protected void begin() {
+        out.ascii(HEADER);
+    }
+
+    @Override
+    protected void writeSalaryIssue(SalaryIssue issue) {
+        startRow(issue.getType().name(), issue.getManager());
+        amount(issue.getCurrentSalary());
+        amount(issue.getSubordinatesAverageSalary());
+        amount(issue.getExpectedMinSalary());
+        amount(issue.getExpectedMaxSalary());
+        amount(issue.getDifference());
+        out.ascii(",,,,\n");
+    }
+
+    @Override
+    protected void writeReportingDepthIssue(ReportingDepthIssue issue) {
+        startRow(issue.getType().name(), issue.getEmployee());
+        out.ascii(",,,,,,");
+        out.integer(issue.getActualDepth());
+        out.ascii(',');
+        out.integer(issue.getMaxAllowedDepth());
+        out.ascii(',');
+        out.integer(issue.getExcessDepth());
+        out.ascii(',');
+        boolean first = true;
+        for (Employee manager : issue.getReportingChain()) {
+            if (!first) {
+                out.ascii(';');
+            }
+            out.integer(manager.getId());
+            first = false;
+        }
+        out.ascii('\n');
+    }
+
+    @Override
+    protected void end(int totalEmployees, int totalManagers,
+                       int underpaidCount, int overpaidCount, int reportingLineIssueCount) {
+        // Rows only (see class comment)
+    }
+
+    /** type,id,first,last – no trailing comma. */
+    private void startRow(String type, Employee employee) {
+        out.ascii(type);
+        out.ascii(',');
+        out.integer(employee.getId());
+        out.ascii(',');
+        field(employee.getFirstName());
+        out.ascii(',');
+        field(employee.getLastName());
+    }
+
+    /** ",1234.50"; empty for NaN/Infinity. */
+    private void amount(double value) {
+        out.ascii(',');
+        if (Double.isFinite(value)) {
+            out.amount(value);
+        }
+    }
+
+    /** Quoted only if it has to be: commas, quotes, line breaks or edge spaces. Null is empty. */
+    private void field(String text) {
+        if (text == null) {
+            return;
+        }
+        if (!needsQuotes(text)) {
+            out.utf8(text);
+            return;
+        }
+        out.ascii('"');
+        int i = 0;
+        while (i < text.length()) {
+            if (text.charAt(i) == '"') {
+                out.ascii('"');
+            }
+            i = out.utf8(text, i);
+        }
+        out.ascii('"');
+    }
+
+    private static boolean needsQuotes(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        if (text.charAt(0) == ' ' || text.charAt(text.length() - 1) == ' ') {
+            return true;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.service;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Hand-rolled "%,.2f" and "%d" that write straight into a char[] – no Formatter,
+ * no intermediate Strings. Output matches String.format for the given locale,
+ * including Formatter's rounding: it rounds the shortest decimal form of the
+ * double half-up, so 1.005 (really 1.00499999...) comes out as 1.01.
+ *
+ * Returns -1 instead of writing when a value can't take the fast path (locales
+ * with non-ASCII digits or odd grouping, NaN, huge amounts); callers fall back
+ * to String.format for those.
+ *
+ * plain() is the machine-readable flavour: "%.2f" in Locale.ROOT, no grouping.
+ */
+final class CurrencyFormat {
+
+    /** Most chars a fast-path number can take, sign and separators included. */
+    static final int MAX_LENGTH = 24;
+
+    // Keeps k * 10 + 5 below 2^53 in roundToCents, so the tie is computed exactly
+    private static final double FAST_PATH_LIMIT = 1e12;
+
+    private final char groupingSeparator;
+    private final char decimalSeparator;
+    // Digits between grouping separators (MAX_VALUE = never)
+    private final int groupingSize;
+    private final boolean plainDigits;
+    // Scratch for one number, filled from the end
+    private final char[] digits = new char[MAX_LENGTH];
+
+    CurrencyFormat(Locale locale) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.groupingSize = 3;
+        this.plainDigits = symbols.getZeroDigit() == '0'
+                && NumberFormat.getIntegerInstance(locale) instanceof DecimalFormat format
+                && format.getGroupingSize() == 3;
+    }
+
+    private CurrencyFormat() {
+        this.groupingSeparator = ',';
+        this.decimalSeparator = '.';
+        this.groupingSize = Integer.MAX_VALUE;
+        this.plainDigits = true;
+    }
+
+    /** Ungrouped, '.' for decimals, whatever the default locale – for JSON/CSV. */
+    static CurrencyFormat plain() {
+        return new CurrencyFormat();
+    }
+
+    /** "%,.2f" of {@code value} into {@code out} at {@code at}. Returns the new end, or -1 (see above). */
+    int appendAmount(double value, char[] out, int at) {
+        double magnitude = Math.abs(value);
+        if (!plainDigits || !(magnitude < FAST_PATH_LIMIT)) {
+            return -1;
+        }
+
+        long cents = roundToCents(magnitude);
+        int pos = digits.length;
+        long fraction = cents % 100;
+        long whole = cents / 100;
+        digits[--pos] = (char) ('0' + fraction % 10);
+        digits[--pos] = (char) ('0' + fraction / 10);
+        digits[--pos] = decimalSeparator;
+        int group = 0;
+        do {
+            if (group++ == groupingSize) {
+                digits[--pos] = groupingSeparator;
+                group = 1;
+            }
+            digits[--pos] = (char) ('0' + whole % 10);
+            whole /= 10;
+        } while (whole > 0);
+        // Formatter keeps the sign even when the value rounds to zero (-0.00)
+        if (Double.doubleToRawLongBits(value) < 0) {
+            digits[--pos] = '-';
+        }
+        return copy(pos, out, at);
+    }
+
+    /** "%d" of {@code value} into {@code out} at {@code at}. Returns the new end, or -1 (see above). */
+    int appendInt(int value, char[] out, int at) {
+        if (!plainDigits) {
+            return -1;
+        }
+        long remaining = Math.abs((long) value);
+        int pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) {
+            digits[--pos] = '-';
+        }
+        return copy(pos, out, at);
+    }
+
+    /**
+     * Half-up rounding of the shortest decimal that reads back as {@code magnitude}.
+     * Only ties need care: if the half-cent k.5 reads back as exactly this double,
+     * that tie is its shortest form and rounds up; otherwise it's a plain comparison.
+     */
+    static long roundToCents(double magnitude) {
+        // Within one of the true floor; comparing against the tie sorts out the rest
+        long k = (long) Math.floor(magnitude * 100);
+        double tie = (k * 10 + 5) / 1000.0;
+        return magnitude >= tie ? k + 1 : k;
+    }
+
+    private int copy(int pos, char[] out, int at) {
+        int length = digits.length - pos;
+        System.arraycopy(digits, pos, out, at, length);
+        return at + length;
+    }
+}
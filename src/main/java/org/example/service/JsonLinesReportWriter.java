@@ -0,0 +1,146 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The report as JSON Lines (NDJSON, UTF-8): one object per issue, then a summary.
+ *
+ *   {"type":"UNDERPAID_ISSUE","id":101,"firstName":"John","lastName":"Doe","salary":50000.00,
+ *    "subordinatesAverage":45000.00,"expectedMin":54000.00,"expectedMax":67500.00,"difference":4000.00}
+ *   {"type":"HIERARCHY_DEPTH_ISSUE","id":7,"firstName":"Ann","lastName":"Lee","depth":6,
+ *    "maxAllowedDepth":4,"excessDepth":2,"chain":[6,5,4,3,2,1]}
+ *   {"type":"SUMMARY","totalEmployees":7,"totalManagers":6,"underpaid":1,"overpaid":0,
+ *    "reportingLineTooLong":1,"issues":2}
+ *
+ * Types are the Issue.Type names. Amounts are rounded to cents like in the text
+ * report; the chain is manager IDs, nearest first. Encoded by hand, no reflection.
+ */
+public class JsonLinesReportWriter extends RecordReportWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public JsonLinesReportWriter(WritableByteChannel channel) {
+        super(channel);
+    }
+
+    @Override
+    protected void begin() {
+        // No header – every line stands alone
+    }
+
+    @Override
+    protected void writeSalaryIssue(SalaryIssue issue) {
+        startRecord(issue.getType().name(), issue.getManager());
+        amountField("salary", issue.getCurrentSalary());
+        amountField("subordinatesAverage", issue.getSubordinatesAverageSalary());
+        amountField("expectedMin", issue.getExpectedMinSalary());
+        amountField("expectedMax", issue.getExpectedMaxSalary());
+        amountField("difference", issue.getDifference());
+        out.ascii("}\n");
+    }
+
+    @Override
+    protected void writeReportingDepthIssue(ReportingDepthIssue issue) {
+        startRecord(issue.getType().name(), issue.getEmployee());
+        intField("depth", issue.getActualDepth());
+        intField("maxAllowedDepth", issue.getMaxAllowedDepth());
+        intField("excessDepth", issue.getExcessDepth());
+        out.ascii(",\"chain\":[");
+        boolean first = true;
+        for (Employee manager : issue.getReportingChain()) {
+            if (!first) {
+                out.ascii(',');
+            }
+            out.integer(manager.getId());
+            first = false;
+        }
+        out.ascii("]}\n");
+    }
+
+    @Override
+    protected void end(int totalEmployees, int totalManagers,
+                       int underpaidCount, int overpaidCount, int reportingLineIssueCount) {
+        out.ascii("{\"type\":\"SUMMARY\"");
+        intField("totalEmployees", totalEmployees);
+        intField("totalManagers", totalManagers);
+        intField("underpaid", underpaidCount);
+        intField("overpaid", overpaidCount);
+        intField("reportingLineTooLong", reportingLineIssueCount);
+        intField("issues", underpaidCount + overpaidCount + reportingLineIssueCount);
+        out.ascii("}\n");
+    }
+
+    /** {"type":...,"id":...,"firstName":...,"lastName":... – the caller adds the rest and the closing brace. */
+    private void startRecord(String type, Employee employee) {
+        out.ascii("{\"type\":\"");
+        out.ascii(type);
+        out.ascii('"');
+        intField("id", employee.getId());
+        out.ascii(",\"firstName\":");
+        string(employee.getFirstName());
+        out.ascii(",\"lastName\":");
+        string(employee.getLastName());
+    }
+
+    private void intField(String name, int value) {
+        fieldName(name);
+        out.integer(value);
+    }
+
+    /** JSON has no NaN or Infinity, so those come out as null. */
+    private void amountField(String name, double value) {
+        fieldName(name);
+        if (Double.isFinite(value)) {
+            out.amount(value);
+        } else {
+            out.ascii("null");
+        }
+    }
+
+    private void fieldName(String name) {
+        out.ascii(",\"");
+        out.ascii(name);
+        out.ascii("\":");
+    }
+
+    /** Quoted and escaped per RFC 8259; non-ASCII goes out as UTF-8. */
+    private void string(String text) {
+        if (text == null) {
+            out.ascii("null");
+            return;
+        }
+        out.ascii('"');
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.ascii('\\');
+                out.ascii(c);
+                i++;
+            } else if (c < 0x20) {
+                escapeControl(c);
+                i++;
+            } else {
+                i = out.utf8(text, i);
+            }
+        }
+        out.ascii('"');
+    }
+
+    private void escapeControl(char c) {
+        switch (c) {
+            case '\n' -> out.ascii("\\n");
+            case '\r' -> out.ascii("\\r");
+            case '\t' -> out.ascii("\\t");
+            default -> {
+                out.ascii("\\u00");
+                out.ascii(HEX[c >> 4]);
+                out.ascii(HEX[c & 0xF]);
+            }
+        }
+    }
+}
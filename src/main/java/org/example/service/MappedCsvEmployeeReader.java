@@ -0,0 +1,174 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.OrgTable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Memory-mapped variant of CsvEmployeeReader for big exports.
+ *
+ * Maps the file in windows (so files over 2 GB work) and parses each record
+ * straight from the mapped bytes – no per-line or per-field Strings.
+ * Same input rules and same error messages as the default reader, including
+ * the fixed-point salary mode.
+ */
+public class MappedCsvEmployeeReader extends CsvEmployeeReader {
+
+    /** 64 MB per mapping – big enough to amortize the map call. */
+    public static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+
+    private final int windowSize;
+
+    public MappedCsvEmployeeReader() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    /** Pass true to parse salaries as exact cents. */
+    public MappedCsvEmployeeReader(boolean fixedPointSalaries) {
+        this(DEFAULT_WINDOW_SIZE, fixedPointSalaries);
+    }
+
+    /** For testing with tiny windows so lines straddle window boundaries. */
+    public MappedCsvEmployeeReader(int windowSize) {
+        this(windowSize, false);
+    }
+
+    public MappedCsvEmployeeReader(int windowSize, boolean fixedPointSalaries) {
+        super(fixedPointSalaries);
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive");
+        }
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Lazily parses the mapped file; readEmployees and forEachEmployee (inherited) run off this stream.
+     * Windows are mapped as the stream advances.
+     */
+    @Override
+    public Stream<Employee> streamEmployees(Path filePath) throws IOException {
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        MappedLineCursor cursor;
+        try {
+            cursor = new MappedLineCursor(channel, 0, channel.size(), windowSize, 1);
+
+            // Skip header line
+            if (!cursor.next()) {
+                throw new IOException("Empty CSV file");
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+
+        return StreamSupport.stream(new CursorSpliterator(cursor, newParser()), false)
+                .onClose(() -> {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        throw new ReadFailure(e);
+                    }
+                });
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Reads straight into columns: name bytes are copied from the mapping
+     * into the table's pool without ever becoming Strings.
+     */
+    @Override
+    public OrgTable readTable(Path filePath) throws IOException {
+        OrgTable.Builder builder = new OrgTable.Builder();
+        int rows = 0;
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            MappedLineCursor cursor = new MappedLineCursor(channel, 0, channel.size(), windowSize, 1);
+
+            // Skip header line
+            if (!cursor.next()) {
+                throw new IOException("Empty CSV file");
+            }
+
+            CsvRecordParser parser = newParser();
+            while (cursor.next()) {
+                if (parseCurrentLine(cursor, parser)) {
+                    parser.appendTo(builder);
+                    rows++;
+                }
+            }
+        }
+
+        if (rows == 0) {
+            throw new IOException("No employee data found in file");
+        }
+
+        return builder.build();
+    }
+
+    /** A record parser in this reader's salary mode. */
+    CsvRecordParser newParser() {
+        return new CsvRecordParser(isFixedPointSalaries());
+    }
+
+    /** Parses the line under the cursor into the parser. Returns false for blank lines. */
+    static boolean parseCurrentLine(MappedLineCursor cursor, CsvRecordParser parser) throws IOException {
+        int start = cursor.lineStart();
+        int end = cursor.lineEnd();
+
+        // Skip empty lines
+        if (CsvRecordParser.isBlank(cursor.buffer(), start, end)) {
+            return false;
+        }
+
+        try {
+            parser.parse(cursor.buffer(), start, end);
+            return true;
+        } catch (IllegalArgumentException e) {
+            throw parseError(cursor.lineNumber(), CsvRecordParser.decode(cursor.buffer(), start, end), e.getMessage());
+        }
+    }
+
+    /** Same message format as CsvEmployeeReader. */
+    static IOException parseError(int lineNumber, String line, String reason) {
+        return new IOException(String.format("Error parsing line %d: %s - %s", lineNumber, line, reason));
+    }
+
+    /** Pulls one non-empty line per tryAdvance from the cursor. */
+    private static class CursorSpliterator extends Spliterators.AbstractSpliterator<Employee> {
+
+        private final MappedLineCursor cursor;
+        private final CsvRecordParser parser;
+
+        CursorSpliterator(MappedLineCursor cursor, CsvRecordParser parser) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+            this.cursor = cursor;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Employee> action) {
+            try {
+                while (cursor.next()) {
+                    if (parseCurrentLine(cursor, parser)) {
+                        action.accept(parser.toEmployee());
+                        return true;
+                    }
+                }
+                return false;
+            } catch (IOException e) {
+                throw new ReadFailure(e);
+            }
+        }
+    }
+}
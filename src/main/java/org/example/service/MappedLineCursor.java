@@ -0,0 +1,132 @@
+package org.example.service;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Walks the lines of a file region through a sliding memory-mapped window.
+ *
+ * Each call to {@link #next()} positions the cursor on the next line; the line's
+ * bytes are {@code [lineStart(), lineEnd())} in {@link #buffer()}, terminators excluded.
+ * Line endings follow BufferedReader.readLine: \n, \r and \r\n all end a line.
+ * Windows are remapped on demand, so regions bigger than 2 GB work.
+ */
+class MappedLineCursor {
+
+    private final FileChannel channel;
+    private final long regionEnd;
+    private final int windowSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int windowLength;
+    private int position;
+
+    private int lineStart;
+    private int lineEnd;
+    private int lineNumber;
+
+    /** Cursor over {@code [regionStart, regionEnd)}; line numbers start after {@code firstLineNumber - 1}. */
+    MappedLineCursor(FileChannel channel, long regionStart, long regionEnd, int windowSize, int firstLineNumber)
+            throws IOException {
+        this.channel = channel;
+        this.regionEnd = regionEnd;
+        this.windowSize = windowSize;
+        this.lineNumber = firstLineNumber - 1;
+        map(regionStart, windowSize);
+    }
+
+    /** Moves to the next line. Returns false once the region is exhausted. */
+    boolean next() throws IOException {
+        while (true) {
+            int end = findTerminator(position);
+            if (end >= 0) {
+                int next = end + 1;
+                if (window.get(end) == '\r') {
+                    // \r as the last mapped byte: need the following byte to know if it's \r\n
+                    if (next == windowLength && !isLastWindow()) {
+                        remapFrom(position);
+                        continue;
+                    }
+                    if (next < windowLength && window.get(next) == '\n') {
+                        next++;
+                    }
+                }
+                return emit(position, end, next);
+            }
+            if (isLastWindow()) {
+                if (position < windowLength) {
+                    return emit(position, windowLength, windowLength);
+                }
+                return false;
+            }
+            remapFrom(position);
+        }
+    }
+
+    MappedByteBuffer buffer() {
+        return window;
+    }
+
+    int lineStart() {
+        return lineStart;
+    }
+
+    int lineEnd() {
+        return lineEnd;
+    }
+
+    /** File offset of the first byte after the current line (and its terminator). */
+    long nextOffset() {
+        return windowStart + position;
+    }
+
+    /** 1-based line number of the current line within the file. */
+    int lineNumber() {
+        return lineNumber;
+    }
+
+    private boolean emit(int start, int end, int next) {
+        lineStart = start;
+        lineEnd = end;
+        position = next;
+        lineNumber++;
+        return true;
+    }
+
+    private int findTerminator(int from) {
+        for (int i = from; i < windowLength; i++) {
+            byte b = window.get(i);
+            if (b == '\n' || b == '\r') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isLastWindow() {
+        return windowStart + windowLength >= regionEnd;
+    }
+
+    /** Slides the window so it starts at {@code offset}; grows it if a single line fills the window. */
+    private void remapFrom(int offset) throws IOException {
+        int size = windowSize;
+        if (offset == 0) {
+            // The current line doesn't fit: double the window until it does
+            long doubled = (long) windowLength * 2;
+            if (doubled > Integer.MAX_VALUE) {
+                throw new IOException(String.format("Line %d is too long to map", lineNumber + 1));
+            }
+            size = (int) doubled;
+        }
+        map(windowStart + offset, size);
+    }
+
+    private void map(long start, int size) throws IOException {
+        windowStart = start;
+        windowLength = (int) Math.min(size, regionEnd - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, windowLength);
+        position = 0;
+    }
+}
@@ -1,7 +1,11 @@
 package org.example.service;
 
+import org.example.config.AppConfig;
 import org.example.model.AnalysisReport;
 import org.example.model.Employee;
+import org.example.model.Issue;
+import org.example.model.IssueSink;
+import org.example.model.Organization;
 import org.example.model.ReportingDepthIssue;
 import org.example.model.SalaryIssue;
 
@@ -15,27 +19,78 @@ public class OrganizationAnalyzer {
     
     private final SalaryAnalyzer salaryAnalyzer;
     private final ReportingDepthAnalyzer reportingDepthAnalyzer;
+    // Fused single-sweep path for analyze(Organization); null = use the analyzers above
+    private final AnalysisEngine engine;
     
-    /** Default setup with real analyzers. */
+    /**
+     * Default setup with real analyzers; Organizations go through the fused engine
+     * (the parallel one if analysis.parallel is set).
+     */
     public OrganizationAnalyzer() {
         this.salaryAnalyzer = new SalaryAnalyzer();
         this.reportingDepthAnalyzer = new ReportingDepthAnalyzer();
+        this.engine = AppConfig.get().isParallelAnalysis() ? new ParallelAnalysisEngine() : new AnalysisEngine();
     }
     
-    /** For tests – inject your own analyzers. */
+    /** For tests – inject your own analyzers. They're used for Organizations too. */
     public OrganizationAnalyzer(SalaryAnalyzer salaryAnalyzer, ReportingDepthAnalyzer reportingDepthAnalyzer) {
         this.salaryAnalyzer = salaryAnalyzer;
         this.reportingDepthAnalyzer = reportingDepthAnalyzer;
+        this.engine = null;
+    }
+    
+    /** Custom fused engine (e.g. parallel, or with test config); the list path keeps the default analyzers. */
+    public OrganizationAnalyzer(AnalysisEngine engine) {
+        this.salaryAnalyzer = new SalaryAnalyzer();
+        this.reportingDepthAnalyzer = new ReportingDepthAnalyzer();
+        this.engine = engine;
+    }
+    
+    /** True if the fused engine's salary check runs on the Vector API (see analysis.vectorized). */
+    public boolean isVectorized() {
+        return engine != null && engine.isVectorized();
     }
     
     /** Runs salary + depth analysis and returns the combined report. */
     public AnalysisReport analyze(List<Employee> employees) {
+        return buildReport(employees, reportingDepthAnalyzer.analyzeReportingDepth(employees));
+    }
+
+    /**
+     * Same report for a loaded, wired Organization. By default this is one fused
+     * sweep (AnalysisEngine); with injected analyzers it runs them one by one.
+     */
+    public AnalysisReport analyze(Organization org) {
+        if (engine != null) {
+            return engine.analyze(org);
+        }
+        return buildReport(org.getEmployees(), reportingDepthAnalyzer.analyzeReportingDepth(org));
+    }
+
+    /**
+     * Streams the issues into {@code sink} section by section instead of returning a
+     * report (see AnalysisEngine.analyze(Organization, IssueSink)). With injected
+     * analyzers there's no streaming path, so their report is built and then replayed.
+     */
+    public void analyze(Organization org, IssueSink sink) {
+        if (engine != null) {
+            engine.analyze(org, sink);
+            return;
+        }
+        AnalysisReport report = analyze(org);
+        sink.startSection(Issue.Type.UNDERPAID_ISSUE);
+        report.getUnderpaidManagers().forEach(sink::accept);
+        sink.startSection(Issue.Type.OVERPAID_ISSUE);
+        report.getOverpaidManagers().forEach(sink::accept);
+        sink.startSection(Issue.Type.HIERARCHY_DEPTH_ISSUE);
+        report.getReportingLineIssues().forEach(sink::accept);
+        sink.finish(report.getTotalEmployees(), report.getTotalManagers());
+    }
+
+    private AnalysisReport buildReport(List<Employee> employees, List<ReportingDepthIssue> reportingDepthIssues) {
         // Run salary analysis
         List<SalaryIssue> salaryIssues = salaryAnalyzer.analyzeSalaries(employees);
         
-        // Run reporting line analysis
-        List<ReportingDepthIssue> reportingDepthIssues = reportingDepthAnalyzer.analyzeReportingDepth(employees);
-        
         // Count managers
         int managerCount = (int) employees.stream()
                 .filter(Employee::isManager)
@@ -0,0 +1,265 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.AnalysisReport;
+import org.example.model.ChildIndex;
+import org.example.model.Employee;
+import org.example.model.IssueBuffer;
+import org.example.model.Organization;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+import org.example.model.SubtreeIndex;
+import org.example.model.TopIssues;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel variant of the fused engine.
+ *
+ * Builds a CSR children index and subtree sizes from the wired manager links
+ * (Organization.getWiredManagerIndex – the same links the sequential engine's depths
+ * and the report totals follow), then splits the hierarchy into subtree tasks of roughly equal size on a
+ * ForkJoinPool: a run of siblings is cut
+ * where half its employees are on each side, and an oversized single subtree is
+ * peeled one level (its root is checked, its reports become the next run).
+ * Each task computes depths top-down and runs the salary/depth checks for the
+ * employees in its subtrees.
+ *
+ * Results land in per-employee slots (salary issues, and the depth as a plain int)
+ * and are collected into an IssueBuffer in input order at the end,
+ * so the report is identical to the sequential engine's, whatever the scheduling.
+ * In top-K mode there are no slots: each task keeps its own TopIssues and they're
+ * merged at the end (ties are broken by ID, so the result is the same either way).
+ */
+public class ParallelAnalysisEngine extends AnalysisEngine {
+
+    private static final int MIN_TASK_SIZE = 4096;
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final ForkJoinPool pool;
+    private final int taskSize;
+
+    /** Default: common pool, task size picked from the org size. */
+    public ParallelAnalysisEngine() {
+        this(AppConfig.get(), ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * Custom config, pool and task size (employees per task). Pass 0 to size tasks
+     * automatically: about eight per pool thread, at least 4096 employees each.
+     */
+    public ParallelAnalysisEngine(AppConfig config, ForkJoinPool pool, int taskSize) {
+        this(config, config.isFixedPointSalaries(), config.getReportTopK(), pool, taskSize);
+    }
+
+    /** As above, with the fixed-point salary mode and the top-K limit (0 = keep all) set explicitly. */
+    public ParallelAnalysisEngine(AppConfig config, boolean fixedPointSalaries, int topK,
+                                  ForkJoinPool pool, int taskSize) {
+        super(config, fixedPointSalaries, topK);
+        if (taskSize < 0) {
+            throw new IllegalArgumentException("Task size cannot be negative");
+        }
+        this.pool = pool;
+        this.taskSize = taskSize;
+    }
+
+    @Override
+    public AnalysisReport analyze(Organization org) {
+        int size = org.size();
+        int threshold = taskSize > 0
+                ? taskSize
+                : Math.max(MIN_TASK_SIZE, size / (pool.getParallelism() * TASKS_PER_THREAD));
+        if (size <= threshold) {
+            // One task's worth of work – not worth building the indexes
+            return super.analyze(org);
+        }
+
+        Forest forest = new Forest(org, salaryFlags(org));
+        TopIssues top = newTopIssues();
+        Results results = new Results(size, top != null);
+        pool.invoke(new SubtreeTask(forest, results, threshold, 0, forest.children.rootsEnd(), 0));
+
+        int managerCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (org.getEmployeeAt(i).isManager()) {
+                managerCount++;
+            }
+        }
+        if (top != null) {
+            for (TopIssues collector : results.collectors) {
+                top.merge(collector);
+            }
+            return top.toReport(size, managerCount);
+        }
+
+        IssueBuffer buffer = new IssueBuffer(org, getMaxDepth());
+        for (int i = 0; i < size; i++) {
+            if (results.salarySlots[i] != null) {
+                buffer.add(i, results.salarySlots[i]);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (results.depthSlots[i] != 0) {
+                buffer.addReportingDepthIssue(i, results.depthSlots[i]);
+            }
+        }
+        return buffer.toReport(size, managerCount);
+    }
+
+    /** Where tasks put issues: per-employee slots, or (top-K) one collector per task. */
+    private static final class Results {
+
+        final SalaryIssue[] salarySlots;
+        // Depth of each employee whose line is too long, 0 for everyone else
+        final int[] depthSlots;
+        final Queue<TopIssues> collectors = new ConcurrentLinkedQueue<>();
+
+        Results(int size, boolean topK) {
+            this.salarySlots = topK ? null : new SalaryIssue[size];
+            this.depthSlots = topK ? null : new int[size];
+        }
+    }
+
+    /**
+     * Children index plus subtree sizes over the wired links (and any up-front salary
+     * verdicts). Built per run, not cached on the org: a direct Employee.setManager
+     * leaves nothing behind to invalidate a cache with.
+     */
+    private static final class Forest {
+
+        final Organization org;
+        final ChildIndex children;
+        final SubtreeIndex subtrees;
+        // From salaryFlags(); null = check each manager inline
+        final byte[] salaryFlags;
+
+        Forest(Organization org, byte[] salaryFlags) {
+            this.org = org;
+            this.salaryFlags = salaryFlags;
+            this.children = ChildIndex.build(org.size(), org::getWiredManagerIndex);
+            this.subtrees = SubtreeIndex.build(children);
+        }
+
+        int sizeAt(int slot) {
+            return subtrees.subtreeSize(children.childAt(slot));
+        }
+    }
+
+    /** Analyzes the subtrees rooted at child-index slots [from, to) – siblings, all at the same depth. */
+    private final class SubtreeTask extends RecursiveAction {
+
+        private final Forest forest;
+        private final Results results;
+        private final int threshold;
+        private final int from;
+        private final int to;
+        private final int depth;
+        // This task's own top-K collector (top-K mode only)
+        private TopIssues collector;
+
+        SubtreeTask(Forest forest, Results results, int threshold, int from, int to, int depth) {
+            this.forest = forest;
+            this.results = results;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (results.salarySlots == null) {
+                collector = newTopIssues();
+                results.collectors.add(collector);
+            }
+            ChildIndex children = forest.children;
+            int from = this.from;
+            int to = this.to;
+            int depth = this.depth;
+
+            while (true) {
+                long total = 0;
+                for (int i = from; i < to; i++) {
+                    total += forest.sizeAt(i);
+                }
+                if (total <= threshold) {
+                    for (int i = from; i < to; i++) {
+                        walk(children.childAt(i), depth);
+                    }
+                    return;
+                }
+
+                if (to - from > 1) {
+                    // Cut the run of siblings where about half the employees are on each side
+                    int mid = from + 1;
+                    long left = forest.sizeAt(from);
+                    while (mid < to - 1 && left + forest.sizeAt(mid) <= total / 2) {
+                        left += forest.sizeAt(mid++);
+                    }
+                    invokeAll(subtask(from, mid, depth), subtask(mid, to, depth));
+                    return;
+                }
+
+                // One big subtree: check its root here and carry on with its reports.
+                // A loop, not a call, so a long single line can't overflow the stack.
+                int node = children.childAt(from);
+                check(node, depth);
+                from = children.start(node);
+                to = children.end(node);
+                depth++;
+            }
+        }
+
+        private SubtreeTask subtask(int from, int to, int depth) {
+            return new SubtreeTask(forest, results, threshold, from, to, depth);
+        }
+
+        /** Depth-first over one subtree, with an explicit stack. */
+        private void walk(int root, int depth) {
+            int[] stack = new int[16];
+            int[] depths = new int[16];
+            int top = 0;
+            stack[top] = root;
+            depths[top++] = depth;
+            while (top > 0) {
+                int node = stack[--top];
+                int nodeDepth = depths[top];
+                check(node, nodeDepth);
+
+                int first = forest.children.start(node);
+                int last = forest.children.end(node);
+                if (top + last - first > stack.length) {
+                    int capacity = Math.max(stack.length * 2, top + last - first);
+                    stack = Arrays.copyOf(stack, capacity);
+                    depths = Arrays.copyOf(depths, capacity);
+                }
+                for (int c = first; c < last; c++) {
+                    stack[top] = forest.children.childAt(c);
+                    depths[top++] = nodeDepth + 1;
+                }
+            }
+        }
+
+        /** Depth check plus salary check against the cached report totals. */
+        private void check(int node, int nodeDepth) {
+            Employee employee = forest.org.getEmployeeAt(node);
+            boolean tooDeep = nodeDepth > getMaxDepth();
+            SalaryIssue salaryIssue = employee.isManager() ? checkManager(employee, forest.salaryFlags, node) : null;
+            if (collector == null) {
+                results.depthSlots[node] = tooDeep ? nodeDepth : 0;
+                results.salarySlots[node] = salaryIssue;
+                return;
+            }
+            if (tooDeep) {
+                collector.add(new ReportingDepthIssue(employee, nodeDepth, getMaxDepth()));
+            }
+            if (salaryIssue != null) {
+                collector.add(salaryIssue);
+            }
+        }
+    }
+}
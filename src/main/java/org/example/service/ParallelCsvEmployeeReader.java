@@ -0,0 +1,242 @@
+package org.example.service;
+
+import org.example.model.Employee;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Parallel variant of the mapped reader.
+ *
+ * Splits the data rows into chunks that end on line boundaries, parses the chunks
+ * on a ForkJoinPool, then stitches the results back together in file order.
+ * Each chunk numbers its lines locally; the real line number of an error is
+ * worked out from the line counts of the chunks before it, so messages match
+ * the sequential readers exactly.
+ *
+ * streamEmployees is inherited from the mapped reader and stays sequential –
+ * a lazy stream has nothing to gain from parsing ahead in parallel.
+ */
+public class ParallelCsvEmployeeReader extends MappedCsvEmployeeReader {
+
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final long MAX_CHUNK_SIZE = 32 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int SCAN_BUFFER_SIZE = 8 << 10;
+
+    private final ForkJoinPool pool;
+    private final long chunkSize;
+
+    /** Default: common pool, chunk size picked from the file size. */
+    public ParallelCsvEmployeeReader() {
+        this(false);
+    }
+
+    /** Common pool, automatic chunks; pass true to parse salaries as exact cents. */
+    public ParallelCsvEmployeeReader(boolean fixedPointSalaries) {
+        this(ForkJoinPool.commonPool(), 0, fixedPointSalaries);
+    }
+
+    /**
+     * Custom pool and chunk size. Pass 0 to size chunks automatically
+     * (about four per pool thread, between 1 MB and 32 MB each).
+     */
+    public ParallelCsvEmployeeReader(ForkJoinPool pool, long chunkSize) {
+        this(pool, chunkSize, false);
+    }
+
+    public ParallelCsvEmployeeReader(ForkJoinPool pool, long chunkSize, boolean fixedPointSalaries) {
+        super(DEFAULT_WINDOW_SIZE, fixedPointSalaries);
+        if (chunkSize < 0) {
+            throw new IllegalArgumentException("Chunk size cannot be negative");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public List<Employee> readEmployees(Path filePath) throws IOException {
+        List<Chunk> chunks;
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // Skip header line
+            MappedLineCursor header = new MappedLineCursor(channel, 0, channel.size(), getWindowSize(), 1);
+            if (!header.next()) {
+                throw new IOException("Empty CSV file");
+            }
+
+            chunks = split(channel, header.nextOffset(), channel.size());
+            try {
+                pool.invoke(new ParseTask(channel, chunks, 0, chunks.size()));
+            } catch (ReadFailure e) {
+                throw e.getCause();
+            }
+        }
+
+        return stitch(chunks);
+    }
+
+    /**
+     * Parses everything in parallel first, then hands the employees over in file
+     * order. Unlike the sequential readers this holds the whole list for a moment –
+     * that's the price of parsing ahead.
+     */
+    @Override
+    public int forEachEmployee(Path filePath, Consumer<? super Employee> action) throws IOException {
+        List<Employee> employees = readEmployees(filePath);
+        employees.forEach(action);
+        return employees.size();
+    }
+
+    /** Cuts {@code [start, end)} into chunks, moving each cut forward to the next line start. */
+    private List<Chunk> split(FileChannel channel, long start, long end) throws IOException {
+        long size = chunkSize > 0 ? chunkSize : autoChunkSize(end - start);
+        List<Chunk> chunks = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+
+        long chunkStart = start;
+        while (chunkStart < end) {
+            long chunkEnd = chunkStart + size >= end ? end : nextLineStart(channel, chunkStart + size, end, scan);
+            chunks.add(new Chunk(chunkStart, chunkEnd));
+            chunkStart = chunkEnd;
+        }
+        return chunks;
+    }
+
+    private long autoChunkSize(long dataSize) {
+        long perThread = dataSize / ((long) pool.getParallelism() * CHUNKS_PER_THREAD);
+        return Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, perThread));
+    }
+
+    /** Offset just past the first line terminator at or after {@code from}; treats \r\n as one. */
+    private static long nextLineStart(FileChannel channel, long from, long end, ByteBuffer scan) throws IOException {
+        long offset = from;
+        boolean afterCr = false;
+        while (offset < end) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = scan.get(i);
+                if (afterCr) {
+                    return b == '\n' ? offset + i + 1 : offset + i;
+                }
+                if (b == '\n') {
+                    return offset + i + 1;
+                }
+                afterCr = b == '\r';
+            }
+            offset += read;
+        }
+        return end;
+    }
+
+    /** Concatenates chunk results in file order, or throws the first error with its real line number. */
+    private static List<Employee> stitch(List<Chunk> chunks) throws IOException {
+        int total = 0;
+        int linesBefore = 1; // Header is line 1
+        for (Chunk chunk : chunks) {
+            if (chunk.errorReason != null) {
+                throw parseError(linesBefore + chunk.errorLine, chunk.errorText, chunk.errorReason);
+            }
+            linesBefore += chunk.lineCount;
+            total += chunk.employees.size();
+        }
+
+        if (total == 0) {
+            throw new IOException("No employee data found in file");
+        }
+
+        List<Employee> employees = new ArrayList<>(total);
+        for (Chunk chunk : chunks) {
+            employees.addAll(chunk.employees);
+        }
+        return employees;
+    }
+
+    /** One slice of the file plus what parsing it produced. */
+    private static final class Chunk {
+        final long start;
+        final long end;
+        List<Employee> employees = List.of();
+        int lineCount;
+        int errorLine;
+        String errorText;
+        String errorReason;
+
+        Chunk(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    /** Splits the chunk range in half until one chunk is left, then parses it. */
+    private final class ParseTask extends RecursiveAction {
+        private final FileChannel channel;
+        private final List<Chunk> chunks;
+        private final int from;
+        private final int to;
+
+        ParseTask(FileChannel channel, List<Chunk> chunks, int from, int to) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ParseTask(channel, chunks, from, mid), new ParseTask(channel, chunks, mid, to));
+                return;
+            }
+            if (from < to) {
+                try {
+                    parse(chunks.get(from));
+                } catch (IOException e) {
+                    throw new ReadFailure(e);
+                }
+            }
+        }
+
+        private void parse(Chunk chunk) throws IOException {
+            MappedLineCursor cursor = new MappedLineCursor(channel, chunk.start, chunk.end, getWindowSize(), 1);
+            CsvRecordParser parser = newParser();
+            List<Employee> employees = new ArrayList<>();
+
+            while (cursor.next()) {
+                int start = cursor.lineStart();
+                int end = cursor.lineEnd();
+
+                // Skip empty lines
+                if (CsvRecordParser.isBlank(cursor.buffer(), start, end)) {
+                    continue;
+                }
+
+                try {
+                    parser.parse(cursor.buffer(), start, end);
+                    employees.add(parser.toEmployee());
+                } catch (IllegalArgumentException e) {
+                    // Line numbers are chunk-local here; stitch() makes them absolute
+                    chunk.errorLine = cursor.lineNumber();
+                    chunk.errorText = CsvRecordParser.decode(cursor.buffer(), start, end);
+                    chunk.errorReason = e.getMessage();
+                    return;
+                }
+            }
+            chunk.lineCount = cursor.lineNumber();
+            chunk.employees = employees;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.service;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * CSV readers Main can load the file with (reader.mode in config.properties):
+ * the line-by-line default, the memory-mapped byte-level reader for big exports, or
+ * its parallel variant that parses chunks of the file on the common pool. All three
+ * accept the same input and give the same employees and error messages.
+ */
+public enum ReaderMode {
+
+    STANDARD("standard"),
+    MAPPED("mapped"),
+    PARALLEL("parallel");
+
+    private final String name;
+
+    ReaderMode(String name) {
+        this.name = name;
+    }
+
+    /** The name used in config.properties. */
+    public String getName() {
+        return name;
+    }
+
+    /** Looks a mode up by its config name. Throws IllegalArgumentException for unknown names. */
+    public static ReaderMode fromName(String name) {
+        for (ReaderMode mode : values()) {
+            if (mode.name.equals(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown reader mode '%s' (expected one of: %s)",
+                name, names()));
+    }
+
+    /** "standard, mapped, parallel" – for error messages. */
+    public static String names() {
+        return Arrays.stream(values()).map(ReaderMode::getName).collect(Collectors.joining(", "));
+    }
+
+    /** A reader in this mode. Pass true to parse salaries as exact cents. */
+    public CsvEmployeeReader newReader(boolean fixedPointSalaries) {
+        return switch (this) {
+            case STANDARD -> new CsvEmployeeReader(fixedPointSalaries);
+            case MAPPED -> new MappedCsvEmployeeReader(fixedPointSalaries);
+            case PARALLEL -> new ParallelCsvEmployeeReader(fixedPointSalaries);
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.service;
+
+import org.example.model.AnalysisReport;
+import org.example.model.Issue;
+import org.example.model.IssueSink;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Base for the machine-readable formats (JSON Lines, CSV): one record per issue,
+ * encoded straight into a ChannelBuffer, in the order the issues come.
+ * printReport() and streamReport() write the same thing; the summary numbers
+ * reach the format at the end either way.
+ */
+abstract class RecordReportWriter implements ReportWriter {
+
+    protected final ChannelBuffer out;
+
+    protected RecordReportWriter(WritableByteChannel channel) {
+        this.out = new ChannelBuffer(channel);
+    }
+
+    @Override
+    public void printReport(AnalysisReport report) {
+        begin();
+        report.getUnderpaidManagers().forEach(this::writeSalaryIssue);
+        report.getOverpaidManagers().forEach(this::writeSalaryIssue);
+        report.getReportingLineIssues().forEach(this::writeReportingDepthIssue);
+        end(report.getTotalEmployees(), report.getTotalManagers(),
+                report.getUnderpaidCount(), report.getOverpaidCount(), report.getReportingLineIssueCount());
+        out.flush();
+    }
+
+    @Override
+    public IssueSink streamReport() {
+        begin();
+        return new StreamingSink();
+    }
+
+    /** Anything before the first record (e.g. a header row). */
+    protected abstract void begin();
+
+    protected abstract void writeSalaryIssue(SalaryIssue issue);
+
+    protected abstract void writeReportingDepthIssue(ReportingDepthIssue issue);
+
+    /** Anything after the last record (e.g. a summary); counts cover all issues, shown or not. */
+    protected abstract void end(int totalEmployees, int totalManagers,
+                                int underpaidCount, int overpaidCount, int reportingLineIssueCount);
+
+    /** Writes each issue as it arrives; only counts are kept. Flushed on finish(). */
+    private class StreamingSink implements IssueSink {
+
+        private int underpaidCount;
+        private int overpaidCount;
+        private int reportingLineIssueCount;
+
+        @Override
+        public void startSection(Issue.Type section) {
+            // Every record says what it is, so sections don't show in the output
+        }
+
+        @Override
+        public void accept(SalaryIssue issue) {
+            if (issue.getType() == Issue.Type.UNDERPAID_ISSUE) {
+                underpaidCount++;
+            } else {
+                overpaidCount++;
+            }
+            writeSalaryIssue(issue);
+        }
+
+        @Override
+        public void accept(ReportingDepthIssue issue) {
+            reportingLineIssueCount++;
+            writeReportingDepthIssue(issue);
+        }
+
+        @Override
+        public void finish(int totalEmployees, int totalManagers) {
+            end(totalEmployees, totalManagers, underpaidCount, overpaidCount, reportingLineIssueCount);
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.service;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Output formats Main can write the report in (--format=...): the human-readable
+ * text report, or JSON Lines / CSV for other programs to read.
+ */
+public enum ReportFormat {
+
+    TEXT("text"),
+    JSON_LINES("ndjson"),
+    CSV("csv");
+
+    private final String name;
+
+    ReportFormat(String name) {
+        this.name = name;
+    }
+
+    /** The name used on the command line. */
+    public String getName() {
+        return name;
+    }
+
+    /** True for the formats meant for other programs (everything but TEXT). */
+    public boolean isMachineReadable() {
+        return this != TEXT;
+    }
+
+    /** Looks a format up by its command-line name. Throws IllegalArgumentException for unknown names. */
+    public static ReportFormat fromName(String name) {
+        for (ReportFormat format : values()) {
+            if (format.name.equals(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Unknown report format '%s' (expected one of: %s)",
+                name, names()));
+    }
+
+    /** "text, ndjson, csv" – for usage and error messages. */
+    public static String names() {
+        return Arrays.stream(values()).map(ReportFormat::getName).collect(Collectors.joining(", "));
+    }
+
+    /** A writer for this format on the given channel. */
+    public ReportWriter newWriter(WritableByteChannel channel) {
+        return switch (this) {
+            case TEXT -> new BufferedReportPrinter(Channels.newOutputStream(channel));
+            case JSON_LINES -> new JsonLinesReportWriter(channel);
+            case CSV -> new CsvReportWriter(channel);
+        };
+    }
+
+    /**
+     * A writer for this format on stdout. Text goes through System.out as usual; the
+     * machine-readable formats write to the stdout file descriptor's channel directly,
+     * so anything else meant for stdout has to be flushed first (Main sends its
+     * progress lines to stderr in those formats).
+     */
+    public ReportWriter newStdoutWriter() {
+        if (this == TEXT) {
+            return new BufferedReportPrinter();
+        }
+        return newWriter(new FileOutputStream(FileDescriptor.out).getChannel());
+    }
+}
@@ -3,6 +3,7 @@ package org.example.service;
 import org.example.config.AppConfig;
 import org.example.model.AnalysisReport;
 import org.example.model.Issue;
+import org.example.model.IssueSink;
 import org.example.model.ReportingDepthIssue;
 import org.example.model.SalaryIssue;
 
@@ -11,8 +12,12 @@ import java.util.List;
 
 /**
  * Prints the analysis report to stdout (or wherever you point it).
+ *
+ * printReport() prints a finished AnalysisReport; streamReport() gives an
+ * IssueSink that prints each section as its issues come in and the summary
+ * as a trailer at the end, so nothing is held in between.
  */
-public class ReportPrinter {
+public class ReportPrinter implements ReportWriter {
     
     private static final String SEPARATOR = "═".repeat(70);
     private static final String SECTION_SEPARATOR = "─".repeat(70);
@@ -36,15 +41,27 @@ public class ReportPrinter {
     }
     
     /** Print the whole report with all sections. */
+    @Override
     public void printReport(AnalysisReport report) {
         printHeader();
         printSummary(report);
-        printUnderpaidManagers(report.getUnderpaidManagers());
-        printOverpaidManagers(report.getOverpaidManagers());
-        printReportingLineIssues(report.getReportingLineIssues());
+        printUnderpaidManagers(report.getUnderpaidManagers(), report.getUnderpaidCount());
+        printOverpaidManagers(report.getOverpaidManagers(), report.getOverpaidCount());
+        printReportingLineIssues(report.getReportingLineIssues(), report.getReportingLineIssueCount());
         printFooter(report);
     }
     
+    /**
+     * Prints the header now and returns a sink for the analysis to stream into
+     * (e.g. OrganizationAnalyzer.analyze(org, sink)). Sections look the same as in
+     * printReport(); the summary comes after them instead of before.
+     */
+    @Override
+    public IssueSink streamReport() {
+        printHeader();
+        return new StreamingSink();
+    }
+    
     private void printHeader() {
         output.println();
         output.println(SEPARATOR);
@@ -54,31 +71,34 @@ public class ReportPrinter {
     }
     
     private void printSummary(AnalysisReport report) {
+        printSummary(report.getTotalEmployees(), report.getTotalManagers(), report.getTotalIssueCount());
+    }
+    
+    private void printSummary(int totalEmployees, int totalManagers, int issueCount) {
         output.println("SUMMARY");
         output.println(SECTION_SEPARATOR);
-        output.printf("Total employees analyzed: %d%n", report.getTotalEmployees());
-        output.printf("Total managers: %d%n", report.getTotalManagers());
-        output.printf("Issues found: %d%n", report.getTotalIssueCount());
+        output.printf("Total employees analyzed: %d%n", totalEmployees);
+        output.printf("Total managers: %d%n", totalManagers);
+        output.printf("Issues found: %d%n", issueCount);
         output.println();
     }
     
-    private void printUnderpaidManagers(List<SalaryIssue> issues) {
+    private void printUnderpaidManagers(List<SalaryIssue> issues, int count) {
         printSalarySection(
                 "MANAGERS WHO EARN LESS THAN THEY SHOULD",
-                "at least", config.getMinSalaryPercent(), issues);
+                "at least", config.getMinSalaryPercent(), issues, count);
     }
     
-    private void printOverpaidManagers(List<SalaryIssue> issues) {
+    private void printOverpaidManagers(List<SalaryIssue> issues, int count) {
         printSalarySection(
                 "MANAGERS WHO EARN MORE THAN THEY SHOULD",
-                "no more than", config.getMaxSalaryPercent(), issues);
+                "no more than", config.getMaxSalaryPercent(), issues, count);
     }
     
-    private void printSalarySection(String title, String constraint, int percent, List<SalaryIssue> issues) {
-        output.println(title);
-        output.println(SECTION_SEPARATOR);
-        output.printf("(Managers should earn %s %d%% more than their direct subordinates' average)%n",
-                constraint, percent);
+    private void printSalarySection(String title, String constraint, int percent, List<SalaryIssue> issues,
+                                    int count) {
+        printSalaryHeading(title, constraint, percent);
+        printTruncation(issues.size(), count);
         output.println();
         
         if (issues.isEmpty()) {
@@ -89,6 +109,13 @@ public class ReportPrinter {
         output.println();
     }
     
+    private void printSalaryHeading(String title, String constraint, int percent) {
+        output.println(title);
+        output.println(SECTION_SEPARATOR);
+        output.printf("(Managers should earn %s %d%% more than their direct subordinates' average)%n",
+                constraint, percent);
+    }
+    
     private void printSalaryIssue(SalaryIssue issue) {
         output.printf("  • %s (ID: %d)%n", 
                 issue.getManager().getFullName(), 
@@ -107,11 +134,9 @@ public class ReportPrinter {
         output.println();
     }
     
-    private void printReportingLineIssues(List<ReportingDepthIssue> issues) {
-        output.println("EMPLOYEES WITH REPORTING LINE TOO LONG");
-        output.println(SECTION_SEPARATOR);
-        output.printf("(Maximum allowed: %d managers between employee and CEO)%n", 
-                config.getMaxReportingDepth());
+    private void printReportingLineIssues(List<ReportingDepthIssue> issues, int count) {
+        printReportingLineHeading();
+        printTruncation(issues.size(), count);
         output.println();
         
         if (issues.isEmpty()) {
@@ -124,6 +149,13 @@ public class ReportPrinter {
         output.println();
     }
     
+    private void printReportingLineHeading() {
+        output.println("EMPLOYEES WITH REPORTING LINE TOO LONG");
+        output.println(SECTION_SEPARATOR);
+        output.printf("(Maximum allowed: %d managers between employee and CEO)%n", 
+                config.getMaxReportingDepth());
+    }
+    
     private void printReportingLineIssue(ReportingDepthIssue issue) {
         output.printf("  • %s (ID: %d)%n", 
                 issue.getEmployee().getFullName(), 
@@ -140,9 +172,20 @@ public class ReportPrinter {
         output.println();
     }
     
+    /** Top-K reports: say how many were left out. Prints nothing for full reports. */
+    private void printTruncation(int shown, int count) {
+        if (count > shown) {
+            output.printf("(Showing the %d worst of %d)%n", shown, count);
+        }
+    }
+    
     private void printFooter(AnalysisReport report) {
+        printFooter(report.hasIssues());
+    }
+    
+    private void printFooter(boolean hasIssues) {
         output.println(SEPARATOR);
-        if (report.hasIssues()) {
+        if (hasIssues) {
             output.println("Analysis complete. Please review the issues above.");
         } else {
             output.println("Analysis complete. No issues found in the organizational structure.");
@@ -150,5 +193,63 @@ public class ReportPrinter {
         output.println(SEPARATOR);
         output.println();
     }
+    
+    /** Prints sections as the issues arrive; only counts are kept. */
+    private class StreamingSink implements IssueSink {
+        
+        private boolean sectionOpen;
+        private int sectionCount;
+        private int issueCount;
+        
+        @Override
+        public void startSection(Issue.Type section) {
+            closeSection();
+            switch (section) {
+                case UNDERPAID_ISSUE -> printSalaryHeading(
+                        section.getDescription(), "at least", config.getMinSalaryPercent());
+                case OVERPAID_ISSUE -> printSalaryHeading(
+                        section.getDescription(), "no more than", config.getMaxSalaryPercent());
+                case HIERARCHY_DEPTH_ISSUE -> printReportingLineHeading();
+            }
+            output.println();
+            sectionOpen = true;
+        }
+        
+        @Override
+        public void accept(SalaryIssue issue) {
+            countIssue();
+            printSalaryIssue(issue);
+        }
+        
+        @Override
+        public void accept(ReportingDepthIssue issue) {
+            countIssue();
+            printReportingLineIssue(issue);
+        }
+        
+        @Override
+        public void finish(int totalEmployees, int totalManagers) {
+            closeSection();
+            printSummary(totalEmployees, totalManagers, issueCount);
+            printFooter(issueCount > 0);
+            output.flush();
+        }
+        
+        private void countIssue() {
+            sectionCount++;
+            issueCount++;
+        }
+        
+        private void closeSection() {
+            if (!sectionOpen) {
+                return;
+            }
+            if (sectionCount == 0) {
+                output.println("  No issues found.");
+            }
+            output.println();
+            sectionOpen = false;
+            sectionCount = 0;
+        }
+    }
 }
-
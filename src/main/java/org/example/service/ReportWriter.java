@@ -0,0 +1,20 @@
+package org.example.service;
+
+import org.example.model.AnalysisReport;
+import org.example.model.IssueSink;
+
+/**
+ * Something that writes out an analysis report – the text ReportPrinter,
+ * its buffered twin, etc. Main only talks to this.
+ */
+public interface ReportWriter {
+
+    /** Writes a finished report. */
+    void printReport(AnalysisReport report);
+
+    /**
+     * Returns a sink to stream the analysis into (see OrganizationAnalyzer.analyze(org, sink));
+     * everything is written by the time finish() returns.
+     */
+    IssueSink streamReport();
+}
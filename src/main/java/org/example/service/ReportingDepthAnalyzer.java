@@ -2,16 +2,25 @@ package org.example.service;
 
 import org.example.config.AppConfig;
 import org.example.model.Employee;
+import org.example.model.IntIndexMap;
+import org.example.model.OrgTable;
+import org.example.model.Organization;
 import org.example.model.ReportingDepthIssue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Finds people who are buried too deep in the org chart.
  */
 public class ReportingDepthAnalyzer {
 
+    // Markers in the memoized depth array
+    private static final int UNKNOWN = -1;
+    private static final int IN_PROGRESS = -2;
+
     private final int maxDepth;
     
     public ReportingDepthAnalyzer() {
@@ -23,24 +32,155 @@ public class ReportingDepthAnalyzer {
         this.maxDepth = config.getMaxReportingDepth();
     }
 
-    /** Find everyone with too many managers above them. */
+    /**
+     * Find everyone with too many managers above them, following the wired manager links.
+     * The employees – plus any managers up their chains that aren't in the list – are
+     * numbered once and go through the same memoized labeling as the other overloads,
+     * so the whole list is O(n) however deep it is. Reported chains are lazy views over
+     * the manager links. Throws IllegalStateException if the links form a cycle.
+     */
     public List<ReportingDepthIssue> analyzeReportingDepth(List<Employee> employees) {
+        int size = employees.size();
+        Employee[] nodes = employees.toArray(new Employee[Math.max(16, size)]);
+        int[] managerIndexes = new int[nodes.length];
+        IntIndexMap indexById = new IntIndexMap(size);
+        for (int i = 0; i < size; i++) {
+            indexById.putIfAbsent(nodes[i].getId(), i);
+        }
+
+        // The loop also resolves the managers it appends, so it runs up to the top of every chain
+        int count = size;
+        for (int i = 0; i < count; i++) {
+            Employee manager = nodes[i].getManager();
+            int managerIndex = Organization.NO_MANAGER;
+            if (manager != null) {
+                managerIndex = indexById.get(manager.getId());
+                if (managerIndex == IntIndexMap.NOT_FOUND || nodes[managerIndex] != manager) {
+                    if (count == nodes.length) {
+                        nodes = Arrays.copyOf(nodes, count * 2);
+                        managerIndexes = Arrays.copyOf(managerIndexes, count * 2);
+                    }
+                    nodes[count] = manager;
+                    indexById.putIfAbsent(manager.getId(), count);
+                    managerIndex = count++;
+                }
+            }
+            managerIndexes[i] = managerIndex;
+        }
+
+        Employee[] numbered = nodes;
+        int[] managers = managerIndexes;
+        int[] depths = computeDepths(count, i -> managers[i], i -> numbered[i].getId());
         List<ReportingDepthIssue> issues = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (depths[i] > maxDepth) {
+                issues.add(new ReportingDepthIssue(numbered[i], depths[i], maxDepth));
+            }
+        }
 
-        for (Employee employee : employees) {
-            Employee.DepthAndChain depthAndChain = employee.findDepthAndChain();
-            
-            if (depthAndChain.depth() > maxDepth) {
-                issues.add(new ReportingDepthIssue(
-                        employee, 
-                        depthAndChain.depth(), 
-                        depthAndChain.chain(),
-                        maxDepth
-                ));
+        return issues;
+    }
+
+    /**
+     * Same check over a loaded Organization (buildHierarchy() already called).
+     * Depths follow the wired manager links, memoized so every employee is
+     * labeled once no matter how deep the branch is. Issues come out in input order.
+     */
+    public List<ReportingDepthIssue> analyzeReportingDepth(Organization org) {
+        int[] depths = computeDepths(org);
+        List<ReportingDepthIssue> issues = new ArrayList<>();
+
+        for (int i = 0; i < org.size(); i++) {
+            if (depths[i] > maxDepth) {
+                issues.add(new ReportingDepthIssue(org.getEmployeeAt(i), depths[i], maxDepth));
             }
         }
 
         return issues;
     }
-}
 
+    /**
+     * Same check over a columnar table. Depths are memoized in a flat array, so each
+     * row is resolved once. Reported rows and their managers are copied to Employees
+     * at most once each and linked up, so issues on the same branch share one chain.
+     * Rows whose manager can't be resolved count as top-level, like an unwired Employee.
+     */
+    public List<ReportingDepthIssue> analyzeReportingDepth(OrgTable table) {
+        int[] depths = computeDepths(table.size(), table::getManagerIndex, table::getId);
+        Employee[] copies = new Employee[table.size()];
+        List<ReportingDepthIssue> issues = new ArrayList<>();
+
+        for (int i = 0; i < table.size(); i++) {
+            if (depths[i] > maxDepth) {
+                issues.add(new ReportingDepthIssue(linkedCopy(table, copies, i), depths[i], maxDepth));
+            }
+        }
+
+        return issues;
+    }
+
+    /** Copies a row plus any managers not copied yet, wiring each copy to its manager's copy. */
+    private static Employee linkedCopy(OrgTable table, Employee[] copies, int row) {
+        int length = 0;
+        int[] path = new int[16];
+        for (int current = row; current >= 0 && copies[current] == null; current = table.getManagerIndex(current)) {
+            if (length == path.length) {
+                path = Arrays.copyOf(path, length * 2);
+            }
+            path[length++] = current;
+        }
+        // Top-down, so every manager copy exists before its report is linked to it
+        while (length > 0) {
+            int current = path[--length];
+            copies[current] = table.toEmployee(current);
+            int managerIndex = table.getManagerIndex(current);
+            if (managerIndex >= 0) {
+                copies[current].setManager(copies[managerIndex]);
+            }
+        }
+        return copies[row];
+    }
+
+    /** Everyone's depth from the wired manager links (see Organization.getWiredManagerIndex). */
+    static int[] computeDepths(Organization org) {
+        return computeDepths(org.size(), org::getWiredManagerIndex, i -> org.getEmployeeAt(i).getId());
+    }
+
+    /**
+     * Iterative memoized depth labeling – no recursion, so deep chains can't blow the stack.
+     * Negative manager indexes (no manager / unknown manager) count as the top.
+     * The one depth routine: every analyzer and the engines' depth checks use it.
+     * Throws IllegalStateException on a cycle.
+     */
+    static int[] computeDepths(int size, IntUnaryOperator managerIndexes, IntUnaryOperator ids) {
+        int[] depths = new int[size];
+        Arrays.fill(depths, UNKNOWN);
+        int[] path = new int[16];
+
+        for (int i = 0; i < size; i++) {
+            // Walk up until we hit a row with a known depth (or the top)
+            int length = 0;
+            int current = i;
+            int depth = -1;
+            while (current >= 0 && depths[current] < 0) {
+                if (depths[current] == IN_PROGRESS) {
+                    throw new IllegalStateException("Circular reference at employee ID " + ids.applyAsInt(current));
+                }
+                depths[current] = IN_PROGRESS;
+                if (length == path.length) {
+                    path = Arrays.copyOf(path, length * 2);
+                }
+                path[length++] = current;
+                current = managerIndexes.applyAsInt(current);
+            }
+            if (current >= 0) {
+                depth = depths[current];
+            }
+            // Unwind: each row is one deeper than its manager
+            while (length > 0) {
+                depths[path[--length]] = ++depth;
+            }
+        }
+        return depths;
+    }
+}
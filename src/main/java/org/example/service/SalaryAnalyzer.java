@@ -3,6 +3,7 @@ package org.example.service;
 import org.example.config.AppConfig;
 import org.example.model.Employee;
 import org.example.model.Issue;
+import org.example.model.OrgTable;
 import org.example.model.SalaryIssue;
 
 import java.util.ArrayList;
@@ -38,6 +39,42 @@ public class SalaryAnalyzer {
         return issues;
     }
     
+    /**
+     * Same check over a columnar table. One pass sums each manager's direct reports
+     * into flat arrays, a second pass checks every row that has reports.
+     * Issues are in row order, like analyzeSalaries(List).
+     */
+    public List<SalaryIssue> analyzeSalaries(OrgTable table) {
+        int size = table.size();
+        int[] reportCounts = new int[size];
+        double[] reportSalarySums = new double[size];
+        for (int i = 0; i < size; i++) {
+            int managerIndex = table.getManagerIndex(i);
+            if (managerIndex >= 0) {
+                reportCounts[managerIndex]++;
+                reportSalarySums[managerIndex] += table.getSalary(i);
+            }
+        }
+        
+        List<SalaryIssue> issues = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (reportCounts[i] == 0) {
+                continue;
+            }
+            double avg = reportSalarySums[i] / reportCounts[i];
+            double salary = table.getSalary(i);
+            double min = avg * minMultiplier;
+            double max = avg * maxMultiplier;
+            
+            if (salary < min) {
+                issues.add(new SalaryIssue(table.toEmployee(i), Issue.Type.UNDERPAID_ISSUE, avg, min, max));
+            } else if (salary > max) {
+                issues.add(new SalaryIssue(table.toEmployee(i), Issue.Type.OVERPAID_ISSUE, avg, min, max));
+            }
+        }
+        return issues;
+    }
+    
     /** Check one manager. Returns null if not a manager or salary is fine. */
     public SalaryIssue analyzeManagerSalary(Employee manager) {
         if (!manager.isManager()) {
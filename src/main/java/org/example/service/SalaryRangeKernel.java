@@ -0,0 +1,41 @@
+package org.example.service;
+
+/**
+ * The salary range check over flat arrays: flags every manager whose salary is
+ * below average × min or above average × max. Same comparisons as
+ * SalaryAnalyzer.analyzeManagerSalary, just batched.
+ *
+ * {@link #best()} picks the Vector API kernel when jdk.incubator.vector is
+ * available (--add-modules jdk.incubator.vector) and the plain loop otherwise.
+ */
+interface SalaryRangeKernel {
+
+    byte OK = 0;
+    byte UNDERPAID = 1;
+    byte OVERPAID = 2;
+
+    /**
+     * Sets flags[i] to UNDERPAID or OVERPAID for i in [0, count); others are left alone,
+     * so pass a zeroed array.
+     */
+    void flag(double[] salaries, double[] averages, int count,
+              double minMultiplier, double maxMultiplier, byte[] flags);
+
+    /** True if this kernel runs on the Vector API. */
+    boolean isVectorized();
+
+    /** Vector kernel if the incubator module is loaded, else the scalar one. */
+    static SalaryRangeKernel best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // By name, so nothing touches the vector classes when the module is missing
+                return (SalaryRangeKernel) Class.forName("org.example.service.VectorSalaryRangeKernel")
+                        .getDeclaredConstructor()
+                        .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Fall through to the scalar loop
+            }
+        }
+        return new ScalarSalaryRangeKernel();
+    }
+}
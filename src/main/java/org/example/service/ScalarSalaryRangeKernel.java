@@ -0,0 +1,28 @@
+package org.example.service;
+
+/** Plain-loop SalaryRangeKernel; also does the vector kernel's tail. */
+final class ScalarSalaryRangeKernel implements SalaryRangeKernel {
+
+    @Override
+    public void flag(double[] salaries, double[] averages, int count,
+                     double minMultiplier, double maxMultiplier, byte[] flags) {
+        flagRange(salaries, averages, 0, count, minMultiplier, maxMultiplier, flags);
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+
+    static void flagRange(double[] salaries, double[] averages, int from, int to,
+                          double minMultiplier, double maxMultiplier, byte[] flags) {
+        for (int i = from; i < to; i++) {
+            double salary = salaries[i];
+            if (salary < averages[i] * minMultiplier) {
+                flags[i] = UNDERPAID;
+            } else if (salary > averages[i] * maxMultiplier) {
+                flags[i] = OVERPAID;
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.Employee;
+import org.example.model.Issue;
+import org.example.model.OrgTable;
+import org.example.model.SalaryIssue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SalaryAnalyzer whose range check runs in batches over primitive arrays:
+ * managers' salaries and report averages are gathered into two double[]s,
+ * one SalaryRangeKernel pass flags everyone, and only flagged managers get a
+ * SalaryIssue. Uses the Vector API when jdk.incubator.vector is loaded
+ * (run with --add-modules jdk.incubator.vector), a plain loop otherwise.
+ *
+ * Same issues, same order and same numbers as SalaryAnalyzer – the kernel
+ * does the same multiplies and comparisons – so it can be dropped into
+ * OrganizationAnalyzer(SalaryAnalyzer, ReportingDepthAnalyzer).
+ */
+public class VectorSalaryAnalyzer extends SalaryAnalyzer {
+
+    private final double minMultiplier;
+    private final double maxMultiplier;
+    private final SalaryRangeKernel kernel;
+
+    public VectorSalaryAnalyzer() {
+        this(AppConfig.get());
+    }
+
+    /** For testing with custom config. */
+    public VectorSalaryAnalyzer(AppConfig config) {
+        this(config, true);
+    }
+
+    /** Pass vectorize = false to force the scalar kernel (e.g. for comparisons). */
+    public VectorSalaryAnalyzer(AppConfig config, boolean vectorize) {
+        super(config);
+        this.minMultiplier = config.getMinSalaryMultiplier();
+        this.maxMultiplier = config.getMaxSalaryMultiplier();
+        this.kernel = vectorize ? SalaryRangeKernel.best() : new ScalarSalaryRangeKernel();
+    }
+
+    /** True if the Vector API kernel is in use. */
+    public boolean isVectorized() {
+        return kernel.isVectorized();
+    }
+
+    @Override
+    public List<SalaryIssue> analyzeSalaries(List<Employee> employees) {
+        int size = employees.size();
+        Employee[] managers = new Employee[size];
+        double[] salaries = new double[size];
+        double[] averages = new double[size];
+        int count = 0;
+        for (Employee employee : employees) {
+            if (employee.isManager()) {
+                managers[count] = employee;
+                salaries[count] = employee.getSalary();
+                averages[count++] = employee.getAvgSalaryOfSubordinates();
+            }
+        }
+
+        byte[] flags = new byte[count];
+        kernel.flag(salaries, averages, count, minMultiplier, maxMultiplier, flags);
+
+        List<SalaryIssue> issues = new ArrayList<>();
+        for (int m = 0; m < count; m++) {
+            if (flags[m] != SalaryRangeKernel.OK) {
+                issues.add(issue(managers[m], flags[m], averages[m]));
+            }
+        }
+        return issues;
+    }
+
+    /** Columnar version: report averages from one pass over the manager column, then the kernel. */
+    @Override
+    public List<SalaryIssue> analyzeSalaries(OrgTable table) {
+        int size = table.size();
+        int[] reportCounts = new int[size];
+        double[] reportSalarySums = new double[size];
+        for (int i = 0; i < size; i++) {
+            int managerIndex = table.getManagerIndex(i);
+            if (managerIndex >= 0) {
+                reportCounts[managerIndex]++;
+                reportSalarySums[managerIndex] += table.getSalary(i);
+            }
+        }
+
+        // Pack the rows that have reports, in row order
+        int[] rows = new int[size];
+        double[] salaries = new double[size];
+        double[] averages = reportSalarySums;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (reportCounts[i] > 0) {
+                rows[count] = i;
+                salaries[count] = table.getSalary(i);
+                // count <= i, so this never overwrites a sum still to be read
+                averages[count++] = reportSalarySums[i] / reportCounts[i];
+            }
+        }
+
+        byte[] flags = new byte[count];
+        kernel.flag(salaries, averages, count, minMultiplier, maxMultiplier, flags);
+
+        List<SalaryIssue> issues = new ArrayList<>();
+        for (int m = 0; m < count; m++) {
+            if (flags[m] != SalaryRangeKernel.OK) {
+                issues.add(issue(table.toEmployee(rows[m]), flags[m], averages[m]));
+            }
+        }
+        return issues;
+    }
+
+    private SalaryIssue issue(Employee manager, byte flag, double avg) {
+        Issue.Type type = flag == SalaryRangeKernel.UNDERPAID ? Issue.Type.UNDERPAID_ISSUE : Issue.Type.OVERPAID_ISSUE;
+        return new SalaryIssue(manager, type, avg, avg * minMultiplier, avg * maxMultiplier);
+    }
+}
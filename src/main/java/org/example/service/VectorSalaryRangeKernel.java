@@ -0,0 +1,51 @@
+package org.example.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SalaryRangeKernel on the Vector API: bounds and comparisons for a whole
+ * vector of managers at a time (4 lanes on AVX2, 8 on AVX-512). Issues are rare,
+ * so flags are only written for lanes whose masks come back set.
+ *
+ * Only load this through SalaryRangeKernel.best() – it needs jdk.incubator.vector.
+ */
+final class VectorSalaryRangeKernel implements SalaryRangeKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void flag(double[] salaries, double[] averages, int count,
+                     double minMultiplier, double maxMultiplier, byte[] flags) {
+        int bound = SPECIES.loopBound(count);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector salary = DoubleVector.fromArray(SPECIES, salaries, i);
+            DoubleVector average = DoubleVector.fromArray(SPECIES, averages, i);
+            VectorMask<Double> under = salary.compare(VectorOperators.LT, average.mul(minMultiplier));
+            VectorMask<Double> over = salary.compare(VectorOperators.GT, average.mul(maxMultiplier));
+            // Over first, so under wins if a bad config makes both true – same as the scalar loop
+            if (over.anyTrue()) {
+                mark(over.toLong(), i, OVERPAID, flags);
+            }
+            if (under.anyTrue()) {
+                mark(under.toLong(), i, UNDERPAID, flags);
+            }
+        }
+        ScalarSalaryRangeKernel.flagRange(salaries, averages, i, count, minMultiplier, maxMultiplier, flags);
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    private static void mark(long lanes, int offset, byte flag, byte[] flags) {
+        while (lanes != 0) {
+            flags[offset + Long.numberOfTrailingZeros(lanes)] = flag;
+            lanes &= lanes - 1;
+        }
+    }
+}
@@ -5,15 +5,16 @@ import org.example.model.Organization;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import static org.example.validators.ErrorCode.CIRCULAR_REFERENCE;
 
 /**
  * Detects circular manager chains (A → B → C → A). 
- * Walks up each person's chain and flags if we see the same ID twice.
+ * Walks up from each person and flags a cycle when the walk comes back to itself.
+ *
+ * Runs the shared ManagerCycles walk over the organization's dense indexes, so each
+ * cycle produces exactly one error however many people report into it.
  */
 public class CircularReferenceValidator implements OrganizationValidator {
 
@@ -25,44 +26,17 @@ public class CircularReferenceValidator implements OrganizationValidator {
         }
 
         List<ValidationError> errors = new ArrayList<>();
-        Set<Integer> employeesInCycles = new HashSet<>();
-
-        for (Employee employee : organization.getEmployees()) {
-            // Skip if already identified as part of a cycle
-            if (employeesInCycles.contains(employee.getId())) {
-                continue;
-            }
-
-            Set<Integer> visited = new HashSet<>();
-            Integer currentId = employee.getId();
-            Integer managerId = employee.getManagerId();
-
-            visited.add(currentId);
-
-            while (managerId != null) {
-                if (visited.contains(managerId)) {
-                    // Found a cycle - record all employees in this path
-                    employeesInCycles.addAll(visited);
-                    errors.add(new ValidationError(
-                            CIRCULAR_REFERENCE,
-                            employee.getFullName(),
-                            employee.getId(),
-                            managerId
-                    ));
-                    break;
-                }
-
-                visited.add(managerId);
-                Employee manager = organization.getEmployeeById(managerId);
-                if (manager == null) {
-                    // Manager not found - handled by InvalidManagerValidator
-                    break;
-                }
-                managerId = manager.getManagerId();
-            }
-        }
+        // Unknown managers are negative and end the walk – InvalidManagerValidator reports those
+        ManagerCycles.find(organization.size(), organization::getManagerIndex, (start, closedAt) -> {
+            Employee employee = organization.getEmployeeAt(start);
+            errors.add(new ValidationError(
+                    CIRCULAR_REFERENCE,
+                    employee.getFullName(),
+                    employee.getId(),
+                    organization.getEmployeeAt(closedAt).getId()
+            ));
+        });
 
         return errors;
     }
 }
-
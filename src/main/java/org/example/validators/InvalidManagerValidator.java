@@ -23,20 +23,13 @@ public class InvalidManagerValidator implements OrganizationValidator {
 
         List<ValidationError> errors = new ArrayList<>();
 
-        // Check each employee
-        for (Employee employee : organization.getEmployees()) {
-            Integer managerId = employee.getManagerId();
-
-            // If managerId is null, this is a CEO - skip validation
-            if (managerId == null) {
-                continue;
-            }
-
-            // If managerId is not null, verify the manager exists
-            if (!organization.hasEmployee(managerId)) {
+        // Manager IDs were resolved to indexes on load - unresolved ones are flagged
+        for (int i = 0; i < organization.size(); i++) {
+            if (organization.getManagerIndex(i) == Organization.UNKNOWN_MANAGER) {
+                Employee employee = organization.getEmployeeAt(i);
                 errors.add(new ValidationError(
                     MANAGER_NOT_FOUND,
-                    managerId,
+                    employee.getManagerId(),
                     employee.getFullName(),
                     employee.getId()
                 ));
@@ -0,0 +1,64 @@
+package org.example.validators;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The one cycle walk behind CircularReferenceValidator, OrganizationBuilder and
+ * OrgTableValidator.
+ *
+ * Three-color walk over dense indexes: every node is visited once, and a walk stops
+ * as soon as it reaches the top (a negative index), a node it already settled, or a
+ * node on its own path. Only the last case is a new cycle, so each cycle is reported
+ * exactly once, from the first node whose walk ran into it.
+ */
+final class ManagerCycles {
+
+    /** Gets each cycle as (index the walk started from, index where it closed). */
+    @FunctionalInterface
+    interface CycleHandler {
+        void onCycle(int start, int closedAt);
+    }
+
+    // Node colors
+    private static final byte UNVISITED = 0;
+    private static final byte IN_PROGRESS = 1;
+    private static final byte DONE = 2;
+
+    private ManagerCycles() {
+    }
+
+    /**
+     * Walks up from every index in [0, size). managerIndex gives the next index up,
+     * or anything negative for the top or an unknown manager.
+     */
+    static void find(int size, IntUnaryOperator managerIndex, CycleHandler handler) {
+        byte[] colors = new byte[size];
+        int[] path = new int[16];
+
+        for (int start = 0; start < size; start++) {
+            if (colors[start] != UNVISITED) {
+                continue;
+            }
+
+            int length = 0;
+            int current = start;
+            while (current >= 0 && colors[current] == UNVISITED) {
+                colors[current] = IN_PROGRESS;
+                if (length == path.length) {
+                    path = Arrays.copyOf(path, length * 2);
+                }
+                path[length++] = current;
+                current = managerIndex.applyAsInt(current);
+            }
+
+            // Back on our own path means a new cycle; a DONE node was settled by an earlier walk
+            if (current >= 0 && colors[current] == IN_PROGRESS) {
+                handler.onCycle(start, current);
+            }
+            for (int i = 0; i < length; i++) {
+                colors[path[i]] = DONE;
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.validators;
+
+import org.example.model.OrgTable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.example.validators.ErrorCode.CIRCULAR_REFERENCE;
+import static org.example.validators.ErrorCode.EMPTY_EMPLOYEE_LIST;
+import static org.example.validators.ErrorCode.MANAGER_NOT_FOUND;
+import static org.example.validators.ErrorCode.MULTIPLE_CEOS;
+import static org.example.validators.ErrorCode.NO_CEO_FOUND;
+import static org.example.validators.ErrorCode.UNIQUE_ID_VIOLATION;
+
+/**
+ * Runs every record/organization rule directly against a columnar OrgTable:
+ * empty input, duplicate IDs, unknown managers, CEO count and circular chains.
+ *
+ * Messages match the Employee-based validators and come out grouped in the
+ * same order Main runs them: records, managers, CEO, cycles. Each cycle is
+ * reported once, however many rows lead into it.
+ */
+public class OrgTableValidator implements EmployeeRecordValidator<OrgTable> {
+
+    @Override
+    public List<ValidationError> validate(OrgTable table) {
+        if (table == null || table.size() == 0) {
+            return List.of(new ValidationError(EMPTY_EMPLOYEE_LIST));
+        }
+
+        List<ValidationError> errors = new ArrayList<>();
+        checkDuplicateIds(table, errors);
+        checkManagersExist(table, errors);
+        checkSingleCeo(table, errors);
+        checkCircularReferences(table, errors);
+        return errors;
+    }
+
+    /** One error per duplicated ID, reported at its first repeat. */
+    private void checkDuplicateIds(OrgTable table, List<ValidationError> errors) {
+        BitSet reported = new BitSet(table.size());
+        for (int i = 0; i < table.size(); i++) {
+            int first = table.indexOf(table.getId(i));
+            if (first != i && !reported.get(first)) {
+                reported.set(first);
+                errors.add(new ValidationError(UNIQUE_ID_VIOLATION, table.getId(i)));
+            }
+        }
+    }
+
+    private void checkManagersExist(OrgTable table, List<ValidationError> errors) {
+        for (int i = 0; i < table.size(); i++) {
+            if (table.getManagerIndex(i) == OrgTable.UNKNOWN_MANAGER) {
+                errors.add(new ValidationError(
+                        MANAGER_NOT_FOUND,
+                        table.getManagerId(i),
+                        table.getFullName(i),
+                        table.getId(i)
+                ));
+            }
+        }
+    }
+
+    private void checkSingleCeo(OrgTable table, List<ValidationError> errors) {
+        int firstCeo = -1;
+        for (int i = 0; i < table.size(); i++) {
+            if (table.hasManager(i)) {
+                continue;
+            }
+            if (firstCeo >= 0) {
+                // Report the first two CEOs found
+                errors.add(new ValidationError(MULTIPLE_CEOS, table.getFullName(firstCeo), table.getFullName(i)));
+                return;
+            }
+            firstCeo = i;
+        }
+        if (firstCeo < 0) {
+            errors.add(new ValidationError(NO_CEO_FOUND));
+        }
+    }
+
+    /** The shared ManagerCycles walk over the table's manager indexes – one error per cycle. */
+    private void checkCircularReferences(OrgTable table, List<ValidationError> errors) {
+        ManagerCycles.find(table.size(), table::getManagerIndex, (start, closedAt) -> errors.add(new ValidationError(
+                CIRCULAR_REFERENCE,
+                table.getFullName(start),
+                table.getId(start),
+                table.getId(closedAt)
+        )));
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.validators;
+
+import org.example.model.Employee;
+import org.example.model.IntIndexMap;
+import org.example.model.Organization;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.example.validators.ErrorCode.CIRCULAR_REFERENCE;
+import static org.example.validators.ErrorCode.EMPTY_EMPLOYEE_LIST;
+import static org.example.validators.ErrorCode.MANAGER_NOT_FOUND;
+import static org.example.validators.ErrorCode.MULTIPLE_CEOS;
+import static org.example.validators.ErrorCode.NO_CEO_FOUND;
+import static org.example.validators.ErrorCode.UNIQUE_ID_VIOLATION;
+
+/**
+ * Validates and builds an Organization in one go, instead of running
+ * BasicEmployeeRecordValidator, the organization validators and buildHierarchy()
+ * one after the other.
+ *
+ * add() indexes employees as they arrive (works straight off a stream) and spots
+ * duplicate IDs. build() then makes two passes over the dense indexes: one resolves
+ * managers, counts CEOs and wires the hierarchy, the other looks for cycles.
+ * Errors come out grouped the same way Main used to collect them: records, managers,
+ * CEO, cycles – with the same codes and messages as the standalone validators.
+ *
+ * The organization is only meant to be used when there are no errors. Not thread-safe.
+ */
+public class OrganizationBuilder {
+
+    private Employee[] employees;
+    private int size;
+    private final IntIndexMap indexById;
+    // Index of the first employee of each duplicated ID, so it's reported once
+    private final BitSet duplicated = new BitSet();
+    private final List<ValidationError> duplicateErrors = new ArrayList<>();
+
+    public OrganizationBuilder() {
+        this(16);
+    }
+
+    /** Pre-size for an expected number of employees. */
+    public OrganizationBuilder(int expectedSize) {
+        this.employees = new Employee[Math.max(expectedSize, 1)];
+        this.indexById = new IntIndexMap(expectedSize);
+    }
+
+    /** Adds one employee. Duplicate IDs are recorded as errors; lookups go to the first one. */
+    public OrganizationBuilder add(Employee employee) {
+        if (size == employees.length) {
+            employees = Arrays.copyOf(employees, size * 2);
+        }
+        int index = size++;
+        employees[index] = employee;
+
+        int existing = indexById.putIfAbsent(employee.getId(), index);
+        if (existing != IntIndexMap.NOT_FOUND && !duplicated.get(existing)) {
+            duplicated.set(existing);
+            duplicateErrors.add(new ValidationError(UNIQUE_ID_VIOLATION, employee.getId()));
+        }
+        return this;
+    }
+
+    public OrganizationBuilder addAll(Iterable<Employee> employees) {
+        for (Employee employee : employees) {
+            add(employee);
+        }
+        return this;
+    }
+
+    /** Resolves, validates and wires everything added so far. */
+    public Result build() {
+        Employee[] all = Arrays.copyOf(employees, size);
+        int[] managerIndexes = new int[size];
+
+        if (size == 0) {
+            Organization empty = new Organization(all, indexById, managerIndexes, null);
+            return new Result(empty, List.of(new ValidationError(EMPTY_EMPLOYEE_LIST)));
+        }
+
+        List<ValidationError> errors = new ArrayList<>(duplicateErrors);
+
+        // Pass 1: resolve managers, collect unknown ones, count CEOs and wire the links
+        Employee firstCeo = null;
+        Employee secondCeo = null;
+        for (int i = 0; i < size; i++) {
+            Employee employee = all[i];
+            Integer managerId = employee.getManagerId();
+            if (managerId == null) {
+                managerIndexes[i] = Organization.NO_MANAGER;
+                if (firstCeo == null) {
+                    firstCeo = employee;
+                } else if (secondCeo == null) {
+                    secondCeo = employee;
+                }
+                continue;
+            }
+
+            int managerIndex = indexById.get(managerId);
+            if (managerIndex == IntIndexMap.NOT_FOUND) {
+                managerIndexes[i] = Organization.UNKNOWN_MANAGER;
+                errors.add(new ValidationError(MANAGER_NOT_FOUND, managerId, employee.getFullName(), employee.getId()));
+            } else {
+                managerIndexes[i] = managerIndex;
+                employee.setManager(all[managerIndex]);
+            }
+        }
+
+        if (firstCeo == null) {
+            errors.add(new ValidationError(NO_CEO_FOUND));
+        } else if (secondCeo != null) {
+            // Report the first two CEOs found
+            errors.add(new ValidationError(MULTIPLE_CEOS, firstCeo.getFullName(), secondCeo.getFullName()));
+        }
+
+        // Pass 2: cycles
+        checkCircularReferences(all, managerIndexes, errors);
+
+        return new Result(new Organization(all, indexById, managerIndexes, firstCeo), errors);
+    }
+
+    /** Same walk as CircularReferenceValidator – one error per cycle. */
+    private static void checkCircularReferences(Employee[] all, int[] managerIndexes, List<ValidationError> errors) {
+        ManagerCycles.find(all.length, i -> managerIndexes[i], (start, closedAt) -> errors.add(new ValidationError(
+                CIRCULAR_REFERENCE,
+                all[start].getFullName(),
+                all[start].getId(),
+                all[closedAt].getId()
+        )));
+    }
+
+    /** The built organization plus everything wrong with it. Empty errors = good to analyze. */
+    public record Result(Organization organization, List<ValidationError> errors) {
+
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+}
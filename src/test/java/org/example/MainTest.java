@@ -1,10 +1,18 @@
 package org.example;
 
+import org.example.config.AppConfig;
 import org.example.constants.ExitCodes;
 import org.example.model.AnalysisReport;
 import org.example.model.Employee;
+import org.example.service.BufferedReportPrinter;
 import org.example.service.CsvEmployeeReader;
+import org.example.service.CsvReportWriter;
+import org.example.service.JsonLinesReportWriter;
+import org.example.service.MappedCsvEmployeeReader;
 import org.example.service.OrganizationAnalyzer;
+import org.example.service.ParallelCsvEmployeeReader;
+import org.example.service.ReaderMode;
+import org.example.service.ReportFormat;
 import org.example.service.ReportPrinter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -189,6 +197,97 @@ class MainTest {
         // Should complete without exception (reporting depth issues are not validation errors)
     }
 
+    @Test
+    @DisplayName("Should load the file with the reader picked by reader.mode")
+    void testReaderMode_SelectsReader() throws IOException {
+        String csvContent = """
+                Id,firstName,lastName,salary,managerId
+                1,John,CEO,200000,
+                2,Jane,Manager,80000,1
+                3,Bob,Worker,50000,2
+                """;
+        Path csvFile = createTempCsvFile(csvContent);
+
+        // config.properties ships with reader.mode=standard
+        assertEquals("standard", AppConfig.get().getReaderMode());
+        assertEquals(CsvEmployeeReader.class, new Main().getReader().getClass());
+
+        Main mapped = new Main(ReportFormat.TEXT, ReaderMode.MAPPED);
+        assertEquals(MappedCsvEmployeeReader.class, mapped.getReader().getClass());
+        mapped.run(csvFile.toString());
+
+        Main parallel = new Main(ReportFormat.TEXT, ReaderMode.PARALLEL);
+        assertEquals(ParallelCsvEmployeeReader.class, parallel.getReader().getClass());
+        parallel.run(csvFile.toString());
+    }
+
+    @Test
+    @DisplayName("Should feed the builder row by row instead of reading a full list")
+    void testRun_StreamsRowsIntoBuilder() throws IOException {
+        Path csvFile = createTempCsvFile("""
+                Id,firstName,lastName,salary,managerId
+                1,John,CEO,200000,
+                2,Jane,Worker,150000,1
+                """);
+        CsvEmployeeReader reader = new CsvEmployeeReader() {
+            @Override
+            public List<Employee> readEmployees(Path filePath) {
+                throw new AssertionError("run() should not collect the employees into a list");
+            }
+        };
+
+        new Main(reader, new OrganizationAnalyzer(), new ReportPrinter(new PrintStream(outputStream))).run(csvFile.toString());
+
+        assertTrue(outputStream.toString().contains("Total employees analyzed: 2"));
+    }
+
+    @Test
+    @DisplayName("Should surface bad rows as the same IOException as before")
+    void testRun_WithBadRow_ThrowsIOException() throws IOException {
+        Path csvFile = createTempCsvFile("""
+                Id,firstName,lastName,salary,managerId
+                1,John,CEO,200000,
+                2,Jane,Worker,oops,1
+                """);
+        Path headerOnly = tempDir.resolve("header.csv");
+        Files.writeString(headerOnly, "Id,firstName,lastName,salary,managerId\n");
+        Main app = new Main();
+
+        IOException bad = assertThrows(IOException.class, () -> app.run(csvFile.toString()));
+        assertTrue(bad.getMessage().startsWith("Error parsing line 3"));
+        assertEquals("No employee data found in file",
+                assertThrows(IOException.class, () -> app.run(headerOnly.toString())).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should wire --format csv and --format ndjson to the matching report writer")
+    void testFormatOption_ReachesReportWriter() {
+        Main.Arguments csv = Main.Arguments.parse(new String[]{"data.csv", "--format", "csv"});
+        Main.Arguments ndjson = Main.Arguments.parse(new String[]{"--format=ndjson", "data.csv"});
+        Main.Arguments text = Main.Arguments.parse(new String[]{"data.csv"});
+
+        assertEquals("data.csv", csv.filePath());
+        assertInstanceOf(CsvReportWriter.class, new Main(csv.format()).getReportWriter());
+        assertInstanceOf(JsonLinesReportWriter.class, new Main(ndjson.format()).getReportWriter());
+        assertInstanceOf(BufferedReportPrinter.class, new Main(text.format()).getReportWriter());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown options, extra paths and bad formats")
+    void testArguments_RejectsUnknownInput() {
+        String[][] badArgs = {
+                {"data.csv", "--fromat", "csv"},
+                {"data.csv", "other.csv"},
+                {"data.csv", "--format"},
+                {"data.csv", "--format=xml"},
+                {"data.csv", "--format=csv", "--format=text"},
+                {"--format=csv"}
+        };
+        for (String[] args : badArgs) {
+            assertThrows(IllegalArgumentException.class, () -> Main.Arguments.parse(args), String.join(" ", args));
+        }
+    }
+
     private Path createTempCsvFile(String content) throws IOException {
         Path csvFile = tempDir.resolve("test.csv");
         Files.writeString(csvFile, content);
@@ -0,0 +1,92 @@
+package org.example;
+
+import org.example.config.AppConfig;
+import org.example.model.Employee;
+import org.example.model.Organization;
+import org.example.service.OrganizationAnalyzer;
+import org.example.service.SalaryAnalyzer;
+import org.example.service.VectorSalaryAnalyzer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs only in surefire's no-vector-module execution: a JVM without
+ * --add-modules jdk.incubator.vector and with -Danalysis.vectorized=true.
+ */
+@Tag("no-vector-module")
+@DisplayName("Vector Fallback Tests")
+class VectorFallbackTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PrintStream originalOut;
+
+    @BeforeEach
+    void setUp() {
+        AppConfig.reset();
+        originalOut = System.out;
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        AppConfig.reset();
+    }
+
+    @Test
+    @DisplayName("Should run without the module and with analysis.vectorized on")
+    void shouldRunWithoutModule() {
+        assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty());
+        assertTrue(AppConfig.get().isVectorizedAnalysis());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the plain loop and still match SalaryAnalyzer")
+    void shouldFallBackToScalarKernel() {
+        VectorSalaryAnalyzer analyzer = new VectorSalaryAnalyzer();
+        List<Employee> employees = List.of(
+                new Employee(1, "Chief", "Exec", 200_000, null),
+                new Employee(2, "Jane", "Manager", 55_000, 1),
+                new Employee(3, "Bob", "Worker", 50_000, 2),
+                new Employee(4, "Ann", "Worker", 40_000, 1));
+        new Organization(employees).buildHierarchy();
+
+        assertFalse(analyzer.isVectorized());
+        assertFalse(new OrganizationAnalyzer().isVectorized());
+        assertEquals(new SalaryAnalyzer().analyzeSalaries(employees).stream().map(i -> i.getManager().getId()).toList(),
+                analyzer.analyzeSalaries(employees).stream().map(i -> i.getManager().getId()).toList());
+    }
+
+    @Test
+    @DisplayName("Should tell the user the Vector API isn't in use")
+    void shouldPrintFallbackNote() throws IOException {
+        Path csvFile = tempDir.resolve("test.csv");
+        Files.writeString(csvFile, """
+                Id,firstName,lastName,salary,managerId
+                1,John,CEO,200000,
+                2,Jane,Worker,50000,1
+                """);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outputStream));
+
+        new Main().run(csvFile.toString());
+
+        String output = outputStream.toString();
+        assertTrue(output.contains("Note: analysis.vectorized is set, but the Vector API isn't in use"), output);
+        assertTrue(output.contains("Loaded 2 employees."), output);
+    }
+}
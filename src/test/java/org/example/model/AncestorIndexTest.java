@@ -0,0 +1,155 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AncestorIndex Tests")
+class AncestorIndexTest {
+
+    //        0
+    //      /   \
+    //     1     3
+    //    / \     \
+    //   2   4     5
+    //             |
+    //             6
+    private static final int[] MANAGERS = {-1, 0, 1, 0, 1, 3, 5};
+
+    private static AncestorIndex index(int[] managers) {
+        ChildIndex children = ChildIndex.build(managers.length, i -> managers[i]);
+        return AncestorIndex.build(SubtreeIndex.build(children), i -> managers[i]);
+    }
+
+    @Test
+    @DisplayName("Should find the k-th manager up, or NONE past the top")
+    void testKthManager() {
+        AncestorIndex index = index(MANAGERS);
+
+        assertEquals(3, index.depth(6));
+        assertEquals(6, index.kthManager(6, 0));
+        assertEquals(5, index.kthManager(6, 1));
+        assertEquals(3, index.kthManager(6, 2));
+        assertEquals(0, index.kthManager(6, 3));
+        assertEquals(AncestorIndex.NONE, index.kthManager(6, 4));
+        assertThrows(IllegalArgumentException.class, () -> index.kthManager(6, -1));
+    }
+
+    @Test
+    @DisplayName("Should find the lowest common manager")
+    void testLowestCommonManager() {
+        AncestorIndex index = index(MANAGERS);
+
+        assertEquals(1, index.lowestCommonManager(2, 4));
+        assertEquals(0, index.lowestCommonManager(2, 6));
+        assertEquals(0, index.lowestCommonManager(6, 4));
+        // One manages the other
+        assertEquals(3, index.lowestCommonManager(6, 3));
+        assertEquals(5, index.lowestCommonManager(5, 5));
+    }
+
+    @Test
+    @DisplayName("Should return NONE for employees in separate trees")
+    void testLowestCommonManager_SeparateTrees() {
+        AncestorIndex index = index(new int[]{-1, 0, -1, 2});
+
+        assertEquals(AncestorIndex.NONE, index.lowestCommonManager(1, 3));
+        assertEquals(0, index.lowestCommonManager(0, 1));
+    }
+
+    @Test
+    @DisplayName("Should match a naive walk on a random deep org, in batch")
+    void testBatch_MatchesNaiveWalk() {
+        int size = 50_000;
+        Random random = new Random(42);
+        int[] managers = new int[size];
+        managers[0] = -1;
+        for (int i = 1; i < size; i++) {
+            // Mostly near the previous employee, so lines get long
+            managers[i] = Math.max(0, i - 1 - random.nextInt(Math.min(i, 8)));
+        }
+        AncestorIndex index = index(managers);
+
+        int pairs = 20_000;
+        int[] first = new int[pairs];
+        int[] second = new int[pairs];
+        for (int i = 0; i < pairs; i++) {
+            first[i] = random.nextInt(size);
+            second[i] = random.nextInt(size);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] common = index.lowestCommonManagers(first, second, pool);
+            int[] grandManagers = index.kthManagers(first, 2, pool);
+            for (int i = 0; i < pairs; i++) {
+                assertEquals(naiveCommon(managers, first[i], second[i]), common[i]);
+                int expected = naiveDepth(managers, first[i]) < 2 ? AncestorIndex.NONE : managers[managers[first[i]]];
+                assertEquals(expected, grandManagers[i]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject batches of different lengths")
+    void testBatch_LengthMismatch() {
+        AncestorIndex index = index(MANAGERS);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> index.lowestCommonManagers(new int[2], new int[3], ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    @DisplayName("Should answer lookups by ID on Organization")
+    void testOrganizationLookups() {
+        resetIdGenerator();
+        Employee ceo = ceo().withId(1).build();
+        Employee cto = manager().withId(2).withManagerId(1).build();
+        Employee dev = regularEmployee().withId(3).withManagerId(2).build();
+        Employee sales = regularEmployee().withId(4).withManagerId(1).build();
+        Organization org = new Organization(List.of(ceo, cto, dev, sales));
+
+        assertEquals(cto, org.findManagerAbove(3, 1));
+        assertEquals(ceo, org.findManagerAbove(3, 2));
+        assertNull(org.findManagerAbove(3, 3));
+        assertEquals(ceo, org.findLowestCommonManager(3, 4));
+        assertEquals(cto, org.findLowestCommonManager(2, 3));
+        assertNull(org.findLowestCommonManager(3, 99));
+    }
+
+    /** Walks both up to the same depth, then together. */
+    private static int naiveCommon(int[] managers, int a, int b) {
+        int depthA = naiveDepth(managers, a);
+        int depthB = naiveDepth(managers, b);
+        while (depthA > depthB) {
+            a = managers[a];
+            depthA--;
+        }
+        while (depthB > depthA) {
+            b = managers[b];
+            depthB--;
+        }
+        while (a != b) {
+            a = managers[a];
+            b = managers[b];
+        }
+        return a;
+    }
+
+    private static int naiveDepth(int[] managers, int node) {
+        int depth = 0;
+        while (managers[node] >= 0) {
+            node = managers[node];
+            depth++;
+        }
+        return depth;
+    }
+}
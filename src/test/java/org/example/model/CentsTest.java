@@ -0,0 +1,79 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cents Tests")
+class CentsTest {
+
+    @Test
+    @DisplayName("Should parse plain decimals into exact cents")
+    void testParse() {
+        assertEquals(6_000_000, Cents.parse("60000"));
+        assertEquals(6_000_050, Cents.parse("60000.5"));
+        assertEquals(6_000_055, Cents.parse("60000.55"));
+        assertEquals(29, Cents.parse("0.29"));
+        assertEquals(29, Cents.parse(".29"));
+        assertEquals(100, Cents.parse("+1."));
+        assertEquals(-150, Cents.parse("-1.50"));
+    }
+
+    @Test
+    @DisplayName("Should reject anything that isn't a plain decimal with at most two places")
+    void testParse_Rejects() {
+        assertThrows(NumberFormatException.class, () -> Cents.parse("1.555"));
+        assertThrows(NumberFormatException.class, () -> Cents.parse("1e5"));
+        assertThrows(NumberFormatException.class, () -> Cents.parse("abc"));
+        assertThrows(NumberFormatException.class, () -> Cents.parse(""));
+        assertThrows(NumberFormatException.class, () -> Cents.parse("-"));
+        assertThrows(NumberFormatException.class, () -> Cents.parse("1.2.3"));
+        assertThrows(NumberFormatException.class, () -> Cents.parse("123456789012345678"));
+    }
+
+    @Test
+    @DisplayName("Should take 16 digits before the point and reject 17 instead of overflowing")
+    void testParse_LongRangeBoundary() {
+        assertEquals(999_999_999_999_999_999L, Cents.parse("9999999999999999.99"));
+        assertEquals(-999_999_999_999_999_900L, Cents.parse("-9999999999999999"));
+
+        NumberFormatException e = assertThrows(NumberFormatException.class,
+                () -> Cents.parse("99999999999999999"));
+        assertTrue(e.getMessage().contains("16 digits before the point"));
+        assertThrows(NumberFormatException.class, () -> Cents.parse("10000000000000000.5"));
+    }
+
+    @Test
+    @DisplayName("Should convert doubles and multipliers")
+    void testConversions() {
+        assertEquals(29, Cents.fromDouble(0.29));
+        assertEquals(0.29, Cents.toDouble(29));
+        assertEquals(12_000, Cents.toBasisPoints(1.20));
+        assertEquals(15_000, Cents.toBasisPoints(1.5));
+    }
+
+    @Test
+    @DisplayName("Should compare products exactly even past the long range")
+    void testCompareProducts() {
+        assertEquals(0, Cents.compareProducts(6, 10, 5, 12));
+        assertTrue(Cents.compareProducts(6, 10, 5, 13) < 0);
+        assertTrue(Cents.compareProducts(6, 11, 5, 12) > 0);
+
+        long big = Long.MAX_VALUE / 2;
+        assertTrue(Cents.compareProducts(big, 12_000, big, 11_999) > 0);
+        assertTrue(Cents.compareProducts(big + 1, 12_000, big, 12_001) < 0);
+        assertEquals(0, Cents.compareProducts(big, 4, big * 2, 2));
+    }
+
+    @Test
+    @DisplayName("Should work out the difference to a threshold, rounded half-up")
+    void testThresholdDifference() {
+        // One report on 50000.00, min 1.2 -> threshold 60000.00
+        assertEquals(1_000_000, Cents.thresholdDifference(5_000_000, 5_000_000, 1, 12_000));
+        // Three reports summing to 1.00: threshold 0.40 at 1.2
+        assertEquals(10, Cents.thresholdDifference(30, 100, 3, 12_000));
+        // Threshold 0.333.. at 1.0 -> 0.6666 off from 1.00, rounds to 67 cents
+        assertEquals(67, Cents.thresholdDifference(100, 100, 3, 10_000));
+    }
+}
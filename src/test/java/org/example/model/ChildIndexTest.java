@@ -0,0 +1,105 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ChildIndex Tests")
+class ChildIndexTest {
+
+    @Test
+    @DisplayName("Should lay out each manager's reports as a contiguous slice in input order")
+    void testBuild_GroupsReportsByManager() {
+        // 0 <- 1, 0 <- 3, 1 <- 2, 1 <- 4; 5 has an unknown manager (-2)
+        int[] managers = {-1, 0, 1, 0, 1, -2};
+
+        ChildIndex index = ChildIndex.build(managers.length, i -> managers[i]);
+
+        assertEquals(6, index.size());
+        assertEquals(List.of(0, 5), slice(index, 0, index.rootsEnd()));
+        assertEquals(List.of(1, 3), slice(index, index.start(0), index.end(0)));
+        assertEquals(List.of(2, 4), slice(index, index.start(1), index.end(1)));
+        assertEquals(2, index.childCount(1));
+        assertEquals(0, index.childCount(2));
+        assertEquals(index.end(5), index.size());
+    }
+
+    @Test
+    @DisplayName("Should build from an Organization without wiring Employee lists")
+    void testOrganization_ChildIndexWithoutHierarchy() {
+        Organization organization = new Organization(buildList(
+                regularEmployee().withId(30).reportingTo(10),
+                ceo().withId(10),
+                regularEmployee().withId(20).reportingTo(10),
+                regularEmployee().withId(40).reportingTo(30)
+        ));
+
+        ChildIndex index = organization.getChildIndex();
+
+        assertSame(index, organization.getChildIndex());
+        assertEquals(List.of(1), slice(index, 0, index.rootsEnd()));
+        assertEquals(List.of(0, 2), slice(index, index.start(1), index.end(1)));
+        assertEquals(List.of(3), slice(index, index.start(0), index.end(0)));
+        assertFalse(organization.getEmployeeAt(1).isManager());
+    }
+
+    @Test
+    @DisplayName("Should match the manager indexes of an OrgTable")
+    void testOrgTable_ChildIndex() {
+        OrgTable table = new OrgTable.Builder()
+                .add(1, "Chief", "Exec", 100, null)
+                .add(2, "Ann", "Lee", 50, 1)
+                .add(3, "Bo", "Kim", 50, 1)
+                .add(4, "Cy", "Ray", 50, 3)
+                .build();
+
+        ChildIndex index = table.getChildIndex();
+
+        assertEquals(List.of(1, 2), slice(index, index.start(0), index.end(0)));
+        assertEquals(List.of(3), slice(index, index.start(2), index.end(2)));
+    }
+
+    @Test
+    @DisplayName("Should build the same index in parallel, whatever the thread count")
+    void testBuildParallel_MatchesSequential() {
+        Random random = new Random(3);
+        int size = 50_000;
+        int[] managers = new int[size];
+        managers[0] = -1;
+        for (int i = 1; i < size; i++) {
+            // A few huge slices plus a long tail of small ones, and some unknown managers
+            managers[i] = random.nextInt(100) == 0 ? -2 : random.nextBoolean() ? random.nextInt(5) : random.nextInt(size);
+        }
+        ChildIndex expected = ChildIndex.build(size, i -> managers[i]);
+
+        for (int threads : new int[] {1, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                ChildIndex actual = ChildIndex.buildParallel(size, i -> managers[i], pool);
+
+                assertEquals(expected.rootsEnd(), actual.rootsEnd());
+                for (int i = 0; i < size; i++) {
+                    assertEquals(expected.start(i), actual.start(i));
+                    assertEquals(expected.childAt(i), actual.childAt(i));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static List<Integer> slice(ChildIndex index, int from, int to) {
+        List<Integer> children = new ArrayList<>();
+        for (int slot = from; slot < to; slot++) {
+            children.add(index.childAt(slot));
+        }
+        return children;
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.example.fixtures.EmployeeDataFixture.*;
@@ -145,6 +146,60 @@ class EmployeeTest {
         assertEquals(50000, mgrEmp.getAvgSalaryOfSubordinates());
     }
 
+    @Test
+    @DisplayName("Should keep report totals in step with manager changes")
+    void shouldUpdateReportTotalsOnManagerChange() {
+        Employee mgr1 = manager().withId(1).asCeo().build();
+        Employee mgr2 = manager().withId(2).asCeo().build();
+        Employee sub1 = regularEmployee().withId(3).withSalary(40000).build();
+        Employee sub2 = regularEmployee().withId(4).withSalary(60000).build();
+
+        sub1.setManager(mgr1);
+        sub2.setManager(mgr1);
+        assertEquals(2, mgr1.getDirectReportCount());
+        assertEquals(100000, mgr1.getDirectReportSalarySum());
+
+        sub2.setManager(mgr2);
+        assertEquals(1, mgr1.getDirectReportCount());
+        assertEquals(40000, mgr1.getAvgSalaryOfSubordinates());
+        assertEquals(60000, mgr2.getAvgSalaryOfSubordinates());
+
+        sub1.setManager(null);
+        assertEquals(0, mgr1.getDirectReportCount());
+        assertEquals(0.0, mgr1.getDirectReportSalarySum());
+        assertEquals(0.0, mgr1.getAvgSalaryOfSubordinates());
+    }
+
+    @Test
+    @DisplayName("Should update the manager's average when a salary changes")
+    void shouldUpdateAverageOnSalaryChange() {
+        Employee mgrEmp = manager().withId(1).asCeo().build();
+        Employee sub1 = regularEmployee().withId(2).withSalary(40000).build();
+        Employee sub2 = regularEmployee().withId(3).withSalary(60000).build();
+        sub1.setManager(mgrEmp);
+        sub2.setManager(mgrEmp);
+
+        sub1.setSalary(50000);
+
+        assertEquals(50000, sub1.getSalary());
+        assertEquals(55000, mgrEmp.getAvgSalaryOfSubordinates());
+    }
+
+    @Test
+    @DisplayName("Should match a fresh average of the subordinates' salaries")
+    void shouldMatchStreamAverage() {
+        Employee mgrEmp = manager().withId(1).asCeo().build();
+        for (int id = 2; id < 500; id++) {
+            new Employee(id, "Sub", "Ordinate", 30000 + id * 0.01 + 1.0 / id, 1).setManager(mgrEmp);
+        }
+
+        double expected = mgrEmp.getDirectSubordinates().stream()
+                .mapToDouble(Employee::getSalary)
+                .average()
+                .orElse(0.0);
+        assertEquals(expected, mgrEmp.getAvgSalaryOfSubordinates());
+    }
+
     @Test
     @DisplayName("Should return 0 for avg salary when no subordinates")
     void shouldReturnZeroForAvgSalaryWithNoSubordinates() {
@@ -209,6 +264,53 @@ class EmployeeTest {
         assertFalse(mgr1.getDirectSubordinates().contains(worker));
     }
 
+    @Test
+    @DisplayName("Should move the last report into the slot of one who leaves")
+    void shouldSwapRemoveLeavingSubordinate() {
+        Employee mgr1 = manager().withId(1).asCeo().build();
+        Employee mgr2 = manager().withId(2).asCeo().build();
+        Employee a = regularEmployee().withId(3).build();
+        Employee b = regularEmployee().withId(4).build();
+        Employee c = regularEmployee().withId(5).build();
+        Employee d = regularEmployee().withId(6).build();
+        List.of(a, b, c, d).forEach(e -> e.setManager(mgr1));
+
+        b.setManager(mgr2);
+        assertEquals(List.of(a, d, c), mgr1.getDirectSubordinates());
+
+        // The moved report must still be removable from its new slot
+        d.setManager(mgr2);
+        c.setManager(null);
+        assertEquals(List.of(a), mgr1.getDirectSubordinates());
+        assertEquals(List.of(b, d), mgr2.getDirectSubordinates());
+    }
+
+    @Test
+    @DisplayName("Should reassign a batch of employees in one call")
+    void shouldReassignBatch() {
+        Employee vp = manager().withId(1).asCeo().build();
+        Employee newVp = manager().withId(2).asCeo().build();
+        List<Employee> reports = new ArrayList<>();
+        for (int id = 10; id < 20_010; id++) {
+            Employee report = new Employee(id, "Report", "No" + id, 50000, 1);
+            report.setManager(vp);
+            reports.add(report);
+        }
+
+        Employee.reassign(reports.subList(0, 15_000), newVp);
+
+        assertEquals(5_000, vp.getDirectReportCount());
+        assertEquals(15_000, newVp.getDirectReportCount());
+        assertEquals(50000, newVp.getAvgSalaryOfSubordinates());
+        assertSame(newVp, reports.get(0).getManager());
+        assertSame(vp, reports.get(15_000).getManager());
+        assertTrue(vp.getDirectSubordinates().containsAll(reports.subList(15_000, 20_000)));
+
+        Employee.reassign(reports, null);
+        assertFalse(vp.isManager());
+        assertFalse(newVp.isManager());
+    }
+
     @Test
     @DisplayName("Should not add duplicate subordinates")
     void shouldNotAddDuplicateSubordinates() {
@@ -271,4 +373,27 @@ class EmployeeTest {
         assertEquals(0, result.depth());
         assertTrue(result.chain().isEmpty());
     }
+
+    @Test
+    @DisplayName("Should keep exact cents totals through moves and salary changes")
+    void shouldKeepCentsTotals() {
+        Employee boss = Employee.ofCents(1, "Big", "Boss", 10_000_000, null);
+        Employee other = Employee.ofCents(2, "Other", "Boss", 10_000_000, null);
+        Employee first = Employee.ofCents(3, "First", "Report", 4_000_010, 1);
+        Employee second = new Employee(4, "Second", "Report", 0.29, 1);
+
+        first.setManager(boss);
+        second.setManager(boss);
+        assertEquals(29, second.getSalaryCents());
+        assertEquals(4_000_039, boss.getDirectReportSalaryCents());
+
+        first.setSalaryCents(5_000_000);
+        assertEquals(50000.0, first.getSalary());
+        second.setSalary(1.5);
+        assertEquals(5_000_150, boss.getDirectReportSalaryCents());
+
+        Employee.reassign(List.of(first), other);
+        assertEquals(150, boss.getDirectReportSalaryCents());
+        assertEquals(5_000_000, other.getDirectReportSalaryCents());
+    }
 }
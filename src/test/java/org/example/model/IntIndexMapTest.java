@@ -0,0 +1,66 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntIndexMap Tests")
+class IntIndexMapTest {
+
+    @Test
+    @DisplayName("Should map keys to indexes and report missing keys")
+    void testPutAndGet_ReturnsIndexes() {
+        IntIndexMap map = new IntIndexMap();
+
+        assertEquals(IntIndexMap.NOT_FOUND, map.put(123456789, 0));
+        assertEquals(IntIndexMap.NOT_FOUND, map.put(-1, 1));
+
+        assertEquals(0, map.get(123456789));
+        assertEquals(1, map.get(-1));
+        assertEquals(IntIndexMap.NOT_FOUND, map.get(0));
+        assertTrue(map.containsKey(-1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the first index on putIfAbsent")
+    void testPutIfAbsent_KeepsFirstIndex() {
+        IntIndexMap map = new IntIndexMap();
+
+        assertEquals(IntIndexMap.NOT_FOUND, map.putIfAbsent(42, 3));
+        assertEquals(3, map.putIfAbsent(42, 9));
+        assertEquals(3, map.get(42));
+        assertEquals(3, map.put(42, 9));
+        assertEquals(9, map.get(42));
+    }
+
+    @Test
+    @DisplayName("Should reject negative indexes")
+    void testPut_RejectsNegativeIndex() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIndexMap().put(1, -1));
+    }
+
+    @Test
+    @DisplayName("Should grow past its initial capacity with sparse badge-style IDs")
+    void testGrowth_WithSparseIds() {
+        IntIndexMap map = new IntIndexMap(1);
+        for (int i = 0; i < 100_000; i++) {
+            map.put(100_000_000 + i * 37, i);
+        }
+
+        assertEquals(100_000, map.size());
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, map.get(100_000_000 + i * 37));
+        }
+        assertEquals(IntIndexMap.NOT_FOUND, map.get(100_000_001));
+    }
+
+    @Test
+    @DisplayName("Should double capacity until the 2^30 slot limit, then refuse to grow")
+    void testGrowth_StopsAtMaxCapacity() {
+        assertEquals(32, IntHashing.grow(16));
+        assertEquals(1 << 30, IntHashing.grow(1 << 29));
+        assertThrows(IllegalStateException.class, () -> IntHashing.grow(1 << 30));
+    }
+}
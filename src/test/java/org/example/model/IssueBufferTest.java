@@ -0,0 +1,87 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IssueBuffer Tests")
+class IssueBufferTest {
+
+    @Test
+    @DisplayName("Should rebuild salary issues from their rows, split by type")
+    void testSalaryRows() {
+        Organization org = organization();
+        IssueBuffer buffer = new IssueBuffer(org, 4);
+        SalaryIssue under = new SalaryIssue(org.getEmployeeAt(1), Issue.Type.UNDERPAID_ISSUE, 50000, 60000, 75000);
+        SalaryIssue over = new SalaryIssue(org.getEmployeeAt(0), Issue.Type.OVERPAID_ISSUE, 60000.5, 72000.6, 90000.75);
+        buffer.add(1, under);
+        buffer.add(0, over);
+
+        assertEquals(1, buffer.getUnderpaidCount());
+        assertEquals(1, buffer.getOverpaidCount());
+        SalaryIssue rebuilt = buffer.overpaidView().get(0);
+        assertSame(org.getEmployeeAt(0), rebuilt.getManager());
+        assertEquals(Issue.Type.OVERPAID_ISSUE, rebuilt.getType());
+        assertEquals(over.getSubordinatesAverageSalary(), rebuilt.getSubordinatesAverageSalary());
+        assertEquals(over.getExpectedMinSalary(), rebuilt.getExpectedMinSalary());
+        assertEquals(over.getExpectedMaxSalary(), rebuilt.getExpectedMaxSalary());
+        assertEquals(over.getDifference(), rebuilt.getDifference());
+        assertEquals(over.getDifferenceCents(), rebuilt.getDifferenceCents());
+        assertEquals(under.toString(), buffer.underpaidView().get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Should rebuild depth issues with the reporting chain")
+    void testDepthRows() {
+        Organization org = organization();
+        IssueBuffer buffer = new IssueBuffer(org, 1);
+        buffer.addReportingDepthIssue(2, 2);
+
+        ReportingDepthIssue issue = buffer.reportingDepthView().get(0);
+
+        assertSame(org.getEmployeeAt(2), issue.getEmployee());
+        assertEquals(2, issue.getActualDepth());
+        assertEquals(1, issue.getExcessDepth());
+        assertEquals(List.of(org.getEmployeeAt(1), org.getEmployeeAt(0)), issue.getReportingChain());
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.reportingDepthView().get(1));
+    }
+
+    @Test
+    @DisplayName("Should back a report without copying, growing past its first capacity")
+    void testToReport() {
+        Organization org = organization();
+        IssueBuffer buffer = new IssueBuffer(org, 0);
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i % 3, new SalaryIssue(org.getEmployeeAt(i % 3),
+                    i % 2 == 0 ? Issue.Type.UNDERPAID_ISSUE : Issue.Type.OVERPAID_ISSUE, 100, 120 + i, 150 + i));
+            buffer.addReportingDepthIssue(2, 2);
+        }
+
+        AnalysisReport report = buffer.toReport(3, 2);
+
+        assertEquals(50, report.getUnderpaidManagers().size());
+        assertEquals(50, report.getOverpaidManagers().size());
+        assertEquals(100, report.getSalaryIssues().size());
+        assertEquals(Issue.Type.OVERPAID_ISSUE, report.getSalaryIssues().get(50).getType());
+        assertEquals(100, report.getReportingLineIssues().size());
+        assertEquals(200, report.getTotalIssueCount());
+        assertFalse(report.isTruncated());
+        assertThrows(UnsupportedOperationException.class, () -> report.getSalaryIssues().clear());
+    }
+
+    /** CEO 1 <- manager 2 <- worker 3, wired. */
+    private static Organization organization() {
+        resetIdGenerator();
+        Organization org = new Organization(buildList(
+                ceo().withId(1).withSalary(100000),
+                manager().withId(2).withSalary(60000).reportingTo(1),
+                regularEmployee().withId(3).withSalary(50000).reportingTo(2)
+        ));
+        org.buildHierarchy();
+        return org;
+    }
+}
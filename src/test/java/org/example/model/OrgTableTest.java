@@ -0,0 +1,90 @@
+package org.example.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrgTable Tests")
+class OrgTableTest {
+
+    @BeforeEach
+    void setUp() {
+        resetIdGenerator();
+    }
+
+    @Test
+    @DisplayName("Should copy employees into columns and resolve managers to rows")
+    void testFrom_CopiesColumnsAndResolvesManagers() {
+        OrgTable table = OrgTable.from(buildList(
+                ceo().withId(500).withFirstName("Ann").withLastName("Lee").withSalary(200000),
+                regularEmployee().withId(7).withFirstName("Bo").withLastName("Kim").reportingTo(500),
+                regularEmployee().withId(9).withFirstName("Cy").withLastName("Ray").reportingTo(404)
+        ));
+
+        assertEquals(3, table.size());
+        assertEquals(500, table.getId(0));
+        assertEquals("Ann Lee", table.getFullName(0));
+        assertEquals(200000, table.getSalary(0));
+        assertFalse(table.hasManager(0));
+        assertEquals(OrgTable.NO_MANAGER, table.getManagerIndex(0));
+        assertEquals(0, table.getManagerIndex(1));
+        assertEquals(OrgTable.UNKNOWN_MANAGER, table.getManagerIndex(2));
+        assertEquals(404, table.getManagerId(2));
+    }
+
+    @Test
+    @DisplayName("Should look up rows by ID, first duplicate wins")
+    void testIndexOf_FindsFirstRow() {
+        OrgTable table = OrgTable.from(buildList(
+                employee().withId(3),
+                employee().withId(1),
+                employee().withId(3),
+                employee().withId(-2)
+        ));
+
+        assertEquals(1, table.indexOf(1));
+        assertEquals(0, table.indexOf(3));
+        assertEquals(3, table.indexOf(-2));
+        assertEquals(-1, table.indexOf(2));
+    }
+
+    @Test
+    @DisplayName("Should build rows from raw UTF-8 bytes and grow past initial capacity")
+    void testBuilder_AddsFromBytes() {
+        ByteBuffer source = ByteBuffer.wrap("Zoë,Ångström".getBytes(StandardCharsets.UTF_8));
+        OrgTable.Builder builder = new OrgTable.Builder(1);
+        builder.add(1, source, 0, 4, 5, source.limit(), 1234.5, false, 0);
+        for (int id = 2; id <= 100; id++) {
+            builder.add(id, "First" + id, "Last", 1000, 1);
+        }
+
+        OrgTable table = builder.build();
+
+        assertEquals(100, table.size());
+        assertEquals("Zoë", table.getFirstName(0));
+        assertEquals("Ångström", table.getLastName(0));
+        assertEquals("First100 Last", table.getFullName(99));
+        assertEquals(0, table.getManagerIndex(99));
+    }
+
+    @Test
+    @DisplayName("Should convert rows back into Employee views")
+    void testToEmployee_CopiesFields() {
+        List<Employee> employees = buildList(
+                ceo().withId(1).withSalary(150000),
+                regularEmployee().withId(2).reportingTo(1)
+        );
+        OrgTable table = OrgTable.from(employees);
+
+        assertEquals(employees.get(0).toString(), table.toEmployee(0).toString());
+        assertEquals(employees.get(1).toString(), table.toEmployee(1).toString());
+        assertNull(table.toEmployee(1).getManager());
+    }
+}
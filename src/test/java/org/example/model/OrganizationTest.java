@@ -4,7 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.example.fixtures.EmployeeDataFixture.*;
 import static org.example.fixtures.OrganizationDataFixture.*;
@@ -151,4 +155,147 @@ class OrganizationTest {
         assertTrue(organization.hasEmployee(1));
         assertFalse(organization.hasEmployee(999));
     }
+
+    @Test
+    @DisplayName("Should assign dense indexes and resolve manager indexes for sparse IDs")
+    void testDenseIndexes_ResolveManagers() {
+        // Arrange
+        Organization organization = organization()
+                .withEmployee(regularEmployee().withId(987654321).reportingTo(100000001))
+                .withEmployee(ceo().withId(100000001))
+                .withEmployee(regularEmployee().withId(555555555).reportingTo(404))
+                .build();
+
+        // Assert
+        assertEquals(0, organization.indexOf(987654321));
+        assertEquals(1, organization.indexOf(100000001));
+        assertEquals(-1, organization.indexOf(404));
+        assertEquals(100000001, organization.getEmployeeAt(1).getId());
+        assertEquals(1, organization.getManagerIndex(0));
+        assertEquals(Organization.NO_MANAGER, organization.getManagerIndex(1));
+        assertEquals(Organization.UNKNOWN_MANAGER, organization.getManagerIndex(2));
+    }
+
+    @Test
+    @DisplayName("Should keep input order in getEmployees")
+    void testGetEmployees_KeepsInputOrder() {
+        // Arrange
+        Organization organization = organization()
+                .withEmployee(regularEmployee().withId(30).reportingTo(10))
+                .withEmployee(ceo().withId(10))
+                .withEmployee(regularEmployee().withId(20).reportingTo(10))
+                .build();
+
+        // Assert
+        assertEquals(List.of(30, 10, 20), organization.getEmployees().stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should wire the same hierarchy in parallel as buildHierarchy")
+    void testBuildHierarchyParallel_MatchesSequential() {
+        Random random = new Random(11);
+        List<Employee> first = new ArrayList<>();
+        List<Employee> second = new ArrayList<>();
+        first.add(new Employee(1, "Chief", "Exec", 300000, null));
+        second.add(new Employee(1, "Chief", "Exec", 300000, null));
+        for (int id = 2; id <= 20_000; id++) {
+            int managerId = 1 + random.nextInt(random.nextBoolean() ? 3 : id - 1);
+            double salary = 20000 + random.nextInt(100000) + random.nextInt(100) / 100.0;
+            first.add(new Employee(id, "First" + id, "Last", salary, managerId));
+            second.add(new Employee(id, "First" + id, "Last", salary, managerId));
+        }
+        Organization sequential = new Organization(first);
+        Organization parallel = new Organization(second);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            sequential.buildHierarchy();
+            parallel.buildHierarchyParallel(pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(1, parallel.getCeo().getId());
+        for (int i = 0; i < first.size(); i++) {
+            Employee expected = sequential.getEmployeeAt(i);
+            Employee actual = parallel.getEmployeeAt(i);
+            assertEquals(expected.getManager(), actual.getManager());
+            assertEquals(expected.getDirectSubordinates(), actual.getDirectSubordinates());
+            assertEquals(expected.getAvgSalaryOfSubordinates(), actual.getAvgSalaryOfSubordinates());
+        }
+    }
+
+    @Test
+    @DisplayName("Should move links, manager indexes and cached indexes together on reassign")
+    void testReassign_UpdatesIndexes() {
+        // 1 <- 2 <- 3 <- ... <- 8
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 300000, null));
+        for (int id = 2; id <= 8; id++) {
+            employees.add(new Employee(id, "First" + id, "Last", 50000, id - 1));
+        }
+        Organization organization = new Organization(employees);
+        organization.buildHierarchy();
+        Employee ceo = organization.getEmployeeById(1);
+        Employee last = organization.getEmployeeById(8);
+        assertTrue(organization.isInOrgOf(8, 7));
+        assertEquals(7, organization.getAncestorIndex().depth(organization.indexOf(8)));
+
+        organization.reassign(List.of(last), ceo);
+
+        assertSame(ceo, last.getManager());
+        assertEquals(organization.indexOf(1), organization.getManagerIndex(organization.indexOf(8)));
+        assertFalse(organization.isInOrgOf(8, 7));
+        assertTrue(organization.isInOrgOf(8, 1));
+        assertEquals(1, organization.getAncestorIndex().depth(organization.indexOf(8)));
+        assertSame(ceo, organization.findManagerAbove(8, 1));
+        assertEquals(2, organization.getChildIndex().childCount(organization.indexOf(1)));
+        assertEquals(List.of(ceo), last.getReportingChain());
+    }
+
+    @Test
+    @DisplayName("Should reject reassigning employees from another organization")
+    void testReassign_ForeignEmployee_Throws() {
+        Organization organization = new Organization(buildList(ceo().withId(1), regularEmployee().withId(2).reportingTo(1)));
+        organization.buildHierarchy();
+        Employee stranger = new Employee(2, "Other", "Person", 1000, 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> organization.reassign(List.of(stranger), organization.getEmployeeById(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> organization.reassign(List.of(organization.getEmployeeById(2)), stranger));
+        assertSame(organization.getEmployeeById(1), organization.getEmployeeById(2).getManager());
+    }
+
+    @Test
+    @DisplayName("Should reject moving employees under themselves or their own reports")
+    void testReassign_Cycle_Throws() {
+        // 1 <- 2 <- 3 <- 4, plus 5 under 1
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 300000, null));
+        for (int id = 2; id <= 4; id++) {
+            employees.add(new Employee(id, "First" + id, "Last", 50000, id - 1));
+        }
+        employees.add(new Employee(5, "Side", "Kick", 50000, 1));
+        Organization organization = new Organization(employees);
+        organization.buildHierarchy();
+        Employee second = organization.getEmployeeById(2);
+        Employee fourth = organization.getEmployeeById(4);
+        Employee side = organization.getEmployeeById(5);
+
+        assertThrows(IllegalArgumentException.class, () -> organization.reassign(List.of(second), second));
+        assertThrows(IllegalArgumentException.class, () -> organization.reassign(List.of(second), fourth));
+        assertThrows(IllegalArgumentException.class, () -> organization.reassign(List.of(side, second), fourth));
+
+        // Nothing moved, and the indexes still describe the loaded tree
+        assertSame(organization.getEmployeeById(1), second.getManager());
+        assertSame(organization.getEmployeeById(1), side.getManager());
+        assertTrue(organization.isInOrgOf(4, 2));
+        assertEquals(3, organization.getAncestorIndex().depth(organization.indexOf(4)));
+
+        // A sibling subtree is fine
+        organization.reassign(List.of(side), fourth);
+        assertSame(fourth, side.getManager());
+        assertTrue(organization.isInOrgOf(5, 2));
+    }
 }
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.example.fixtures.EmployeeDataFixture.*;
@@ -119,6 +120,51 @@ class ReportingDepthIssueTest {
         assertTrue(str.contains("4")); // max allowed
     }
 
+    @Test
+    @DisplayName("Should read the chain lazily from manager links")
+    void testLazyChain_FollowsManagerLinks() {
+        Employee ceo = ceo().withId(1).build();
+        Employee mgr = employee().withId(2).reportingTo(1).build();
+        Employee lead = employee().withId(3).reportingTo(2).build();
+        Employee emp = employee().withId(4).reportingTo(3).build();
+        mgr.setManager(ceo);
+        lead.setManager(mgr);
+        emp.setManager(lead);
+
+        ReportingDepthIssue issue = new ReportingDepthIssue(emp, 3, 2);
+        ReportingDepthIssue managerIssue = new ReportingDepthIssue(lead, 2, 1);
+
+        assertEquals(List.of(lead, mgr, ceo), issue.getReportingChain());
+        assertEquals(emp.getReportingChain(), issue.getReportingChain());
+        assertSame(managerIssue.getReportingChain().get(0), issue.getReportingChain().get(1));
+        assertEquals(1, issue.getExcessDepth());
+        assertThrows(IndexOutOfBoundsException.class, () -> issue.getReportingChain().get(3));
+        assertThrows(UnsupportedOperationException.class, () -> issue.getReportingChain().remove(0));
+    }
+
+    @Test
+    @DisplayName("Should end the lazy chain at the top even if it's shorter than the depth")
+    void testLazyChain_ShorterThanDepth() {
+        Employee ceo = ceo().withId(1).build();
+        Employee mgr = employee().withId(2).reportingTo(1).build();
+        Employee emp = employee().withId(3).reportingTo(2).build();
+        mgr.setManager(ceo);
+        emp.setManager(mgr);
+
+        // Depth from a stale snapshot – the chain follows the links, not the number
+        ReportingDepthIssue issue = new ReportingDepthIssue(emp, 7, 4);
+        List<Employee> chain = issue.getReportingChain();
+
+        assertEquals(2, chain.size());
+        assertEquals(List.of(mgr, ceo), new ArrayList<>(chain));
+        assertEquals(chain.size(), chain.stream().count());
+        assertThrows(IndexOutOfBoundsException.class, () -> chain.get(2));
+
+        // Links above the first manager are read live
+        mgr.setManager(null);
+        assertEquals(List.of(mgr), chain);
+    }
+
     @Test
     @DisplayName("Should use config max depth correctly")
     void testMaxAllowedDepth_IsCorrect() {
@@ -0,0 +1,94 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SubtreeIndex Tests")
+class SubtreeIndexTest {
+
+    @Test
+    @DisplayName("Should number employees in pre-order with contiguous subtrees")
+    void testBuild_AssignsPreOrderIntervals() {
+        //        0
+        //      /   \
+        //     1     3
+        //    / \     \
+        //   2   4     5
+        int[] managers = {-1, 0, 1, 0, 1, 3};
+        SubtreeIndex index = SubtreeIndex.build(ChildIndex.build(managers.length, i -> managers[i]));
+
+        assertEquals(List.of(0, 1, 2, 4, 3, 5), scan(index, 0));
+        assertEquals(List.of(1, 2, 4), scan(index, 1));
+        assertEquals(6, index.subtreeSize(0));
+        assertEquals(3, index.subtreeSize(1));
+        assertEquals(1, index.subtreeSize(5));
+        assertEquals(index.size(), index.exit(0));
+    }
+
+    @Test
+    @DisplayName("Should answer subtree membership in both directions")
+    void testIsInSubtree() {
+        int[] managers = {-1, 0, 1, 0, 1, 3};
+        SubtreeIndex index = SubtreeIndex.build(ChildIndex.build(managers.length, i -> managers[i]));
+
+        assertTrue(index.isInSubtree(4, 1));
+        assertTrue(index.isInSubtree(4, 0));
+        assertTrue(index.isInSubtree(1, 1));
+        assertFalse(index.isUnder(1, 1));
+        assertFalse(index.isInSubtree(5, 1));
+        assertFalse(index.isInSubtree(0, 4));
+    }
+
+    @Test
+    @DisplayName("Should handle a very deep line without recursion")
+    void testBuild_DeepLine() {
+        int size = 200_000;
+        SubtreeIndex index = SubtreeIndex.build(ChildIndex.build(size, i -> i - 1));
+
+        assertEquals(size, index.subtreeSize(0));
+        assertEquals(1, index.subtreeSize(size - 1));
+        assertTrue(index.isUnder(size - 1, 0));
+        assertFalse(index.isUnder(0, size - 1));
+    }
+
+    @Test
+    @DisplayName("Should reject employees that can't be reached from the top")
+    void testBuild_WithCycle_Throws() {
+        int[] managers = {-1, 2, 1};
+
+        assertThrows(IllegalStateException.class,
+                () -> SubtreeIndex.build(ChildIndex.build(managers.length, i -> managers[i])));
+    }
+
+    @Test
+    @DisplayName("Should answer 'is in org of' by employee ID on an Organization")
+    void testOrganization_IsInOrgOf() {
+        Organization organization = new Organization(buildList(
+                regularEmployee().withId(40).reportingTo(20),
+                ceo().withId(10),
+                manager().withId(20).reportingTo(10),
+                manager().withId(30).reportingTo(10)
+        ));
+
+        assertTrue(organization.isInOrgOf(40, 20));
+        assertTrue(organization.isInOrgOf(40, 10));
+        assertFalse(organization.isInOrgOf(40, 30));
+        assertFalse(organization.isInOrgOf(20, 20));
+        assertFalse(organization.isInOrgOf(99, 10));
+        assertEquals(3, organization.getSubtreeIndex().subtreeSize(organization.indexOf(10)) - 1);
+    }
+
+    private static List<Integer> scan(SubtreeIndex index, int root) {
+        List<Integer> employees = new ArrayList<>();
+        for (int position = index.entry(root); position < index.exit(root); position++) {
+            employees.add(index.employeeAt(position));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TopIssues Tests")
+class TopIssuesTest {
+
+    @Test
+    @DisplayName("Should keep the worst salary issues per type, worst first, with exact counts")
+    void testKeepsWorstSalaryIssues() {
+        TopIssues top = new TopIssues(2);
+        top.add(underpaid(1, 100));
+        top.add(underpaid(2, 500));
+        top.add(overpaid(3, 50));
+        top.add(underpaid(4, 300));
+        top.add(underpaid(5, 200));
+
+        AnalysisReport report = top.toReport(10, 5);
+
+        assertEquals(List.of(2, 4), managerIds(report.getUnderpaidManagers()));
+        assertEquals(List.of(3), managerIds(report.getOverpaidManagers()));
+        assertEquals(4, report.getUnderpaidCount());
+        assertEquals(1, report.getOverpaidCount());
+        assertEquals(5, report.getTotalIssueCount());
+        assertEquals(2, report.getLimit());
+        assertTrue(report.isTruncated());
+        assertTrue(report.hasIssues());
+    }
+
+    @Test
+    @DisplayName("Should rank reporting lines by excess depth, ties by lower ID")
+    void testRanksReportingLines() {
+        TopIssues top = new TopIssues(3);
+        top.add(deep(9, 6));
+        top.add(deep(4, 7));
+        top.add(deep(7, 6));
+        top.add(deep(2, 5));
+        top.add(deep(3, 6));
+
+        List<ReportingDepthIssue> issues = top.toReport(10, 1).getReportingLineIssues();
+
+        assertEquals(List.of(4, 3, 7), issues.stream().map(i -> i.getEmployee().getId()).toList());
+    }
+
+    @Test
+    @DisplayName("Should give the same result merged from parts as from one collector")
+    void testMerge() {
+        TopIssues whole = new TopIssues(5);
+        List<TopIssues> parts = List.of(new TopIssues(5), new TopIssues(5), new TopIssues(5));
+        for (int id = 1; id <= 60; id++) {
+            SalaryIssue issue = underpaid(id, (id * 37) % 23);
+            whole.add(issue);
+            parts.get(id % 3).add(issue);
+        }
+        TopIssues merged = new TopIssues(5);
+        parts.forEach(merged::merge);
+
+        AnalysisReport expected = whole.toReport(60, 60);
+        AnalysisReport actual = merged.toReport(60, 60);
+        assertEquals(managerIds(expected.getUnderpaidManagers()), managerIds(actual.getUnderpaidManagers()));
+        assertEquals(60, actual.getUnderpaidCount());
+    }
+
+    @Test
+    @DisplayName("Should report nothing truncated when under the limit")
+    void testUnderLimit() {
+        TopIssues top = new TopIssues(100);
+        top.add(overpaid(1, 10));
+
+        AnalysisReport report = top.toReport(2, 1);
+
+        assertFalse(report.isTruncated());
+        assertEquals(1, report.getTotalIssueCount());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive limit")
+    void testRejectsZeroLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new TopIssues(0));
+    }
+
+    /** A manager on 1000 whose min is 1000 + difference. */
+    private static SalaryIssue underpaid(int id, double difference) {
+        Employee manager = new Employee(id, "Manager", "M" + id, 1000, null);
+        return new SalaryIssue(manager, Issue.Type.UNDERPAID_ISSUE, 0, 1000 + difference, 2000 + difference);
+    }
+
+    private static SalaryIssue overpaid(int id, double difference) {
+        Employee manager = new Employee(id, "Manager", "M" + id, 1000, null);
+        return new SalaryIssue(manager, Issue.Type.OVERPAID_ISSUE, 0, 0, 1000 - difference);
+    }
+
+    private static ReportingDepthIssue deep(int id, int depth) {
+        return new ReportingDepthIssue(new Employee(id, "Deep", "D" + id, 1000, 1), depth, new ArrayList<>(), 4);
+    }
+
+    private static List<Integer> managerIds(List<SalaryIssue> issues) {
+        return issues.stream().map(i -> i.getManager().getId()).toList();
+    }
+}
@@ -0,0 +1,435 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.AnalysisReport;
+import org.example.model.Cents;
+import org.example.model.Employee;
+import org.example.model.Issue;
+import org.example.model.IssueSink;
+import org.example.model.Organization;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+import org.example.validators.OrganizationBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the fused AnalysisEngine, checked against the per-analyzer reference path.
+ */
+@DisplayName("Analysis Engine Tests")
+class AnalysisEngineTest {
+
+    private AnalysisEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new AnalysisEngine();
+        resetIdGenerator();
+    }
+
+    @Test
+    @DisplayName("Should find salary and depth issues with summary counts")
+    void shouldAnalyzeSmallOrganization() {
+        Organization org = build(buildList(
+                regularEmployee().withId(7).withSalary(40000).reportingTo(6),
+                ceo().withId(1).withSalary(200000),
+                manager().withId(2).withSalary(50000).reportingTo(1),   // Underpaid
+                manager().withId(3).withSalary(60000).reportingTo(2),
+                manager().withId(4).withSalary(50000).reportingTo(3),
+                manager().withId(5).withSalary(50000).reportingTo(4),
+                manager().withId(6).withSalary(50000).reportingTo(5)
+        ));
+
+        AnalysisReport report = engine.analyze(org);
+
+        assertEquals(7, report.getTotalEmployees());
+        assertEquals(6, report.getTotalManagers());
+        assertEquals(List.of(2, 4, 5), report.getUnderpaidManagers().stream().map(i -> i.getManager().getId()).toList());
+        assertEquals(List.of(7, 6), report.getReportingLineIssues().stream().map(i -> i.getEmployee().getId()).toList());
+        assertEquals(List.of(6, 5, 4, 3, 2, 1), report.getReportingLineIssues().get(0).getReportingChain().stream()
+                .map(Employee::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should match the reference analyzers on a random organization")
+    void shouldMatchReferenceAnalyzers() {
+        // Random tree with fractional salaries, listed in shuffled order
+        Random random = new Random(42);
+        int size = 5_000;
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 250_000.37, null));
+        for (int id = 2; id <= size; id++) {
+            int managerId = 1 + random.nextInt(Math.max(1, Math.min(id - 1, 40 + id / 50)));
+            double salary = 30_000 + random.nextInt(90_000) + random.nextInt(100) / 100.0;
+            employees.add(new Employee(id, "First" + id, "Last" + id, salary, managerId));
+        }
+        Collections.shuffle(employees, random);
+        Organization org = build(employees);
+
+        AnalysisReport expected = new OrganizationAnalyzer(new SalaryAnalyzer(), new ReportingDepthAnalyzer())
+                .analyze(employees);
+        AnalysisReport actual = engine.analyze(org);
+
+        assertEquals(expected.getTotalEmployees(), actual.getTotalEmployees());
+        assertEquals(expected.getTotalManagers(), actual.getTotalManagers());
+        assertFalse(actual.getSalaryIssues().isEmpty());
+        assertFalse(actual.getReportingLineIssues().isEmpty());
+        assertEquals(expected.getSalaryIssues().size(), actual.getSalaryIssues().size());
+        for (int i = 0; i < expected.getSalaryIssues().size(); i++) {
+            SalaryIssue e = expected.getSalaryIssues().get(i);
+            SalaryIssue a = actual.getSalaryIssues().get(i);
+            assertSame(e.getManager(), a.getManager());
+            assertEquals(e.getSubordinatesAverageSalary(), a.getSubordinatesAverageSalary());
+            assertEquals(e.getDifference(), a.getDifference());
+        }
+        assertEquals(expected.getReportingLineIssues().size(), actual.getReportingLineIssues().size());
+        for (int i = 0; i < expected.getReportingLineIssues().size(); i++) {
+            ReportingDepthIssue e = expected.getReportingLineIssues().get(i);
+            ReportingDepthIssue a = actual.getReportingLineIssues().get(i);
+            assertSame(e.getEmployee(), a.getEmployee());
+            assertEquals(e.getActualDepth(), a.getActualDepth());
+            assertEquals(e.getReportingChain(), a.getReportingChain());
+        }
+    }
+
+    @Test
+    @DisplayName("Should compare salaries exactly in fixed-point mode")
+    void shouldCompareExactlyInFixedPointMode() {
+        // 38.70 × 1.2 is exactly 46.44, but in doubles it comes out a hair above
+        Organization org = build(List.of(
+                Employee.ofCents(1, "Chief", "Exec", 4_644, null),
+                Employee.ofCents(2, "Only", "Report", 3_870, 1)
+        ));
+
+        assertEquals(1, engine.analyze(org).getUnderpaidManagers().size());
+        assertTrue(new AnalysisEngine(AppConfig.get(), true).analyze(org).getSalaryIssues().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should give a verdict instead of overflowing for the largest parseable salaries")
+    void shouldHandleHugeSalariesInFixedPointMode() {
+        long huge = Cents.parse("9999999999999999.99");
+        Organization org = build(List.of(
+                Employee.ofCents(1, "Chief", "Exec", huge, null),
+                Employee.ofCents(2, "Mid", "Manager", 100_000, 1),
+                Employee.ofCents(3, "Star", "Report", huge, 2)
+        ));
+
+        AnalysisReport report = new AnalysisEngine(AppConfig.get(), true).analyze(org);
+
+        assertEquals(List.of(2), ids(report.getUnderpaidManagers()));
+        assertEquals(List.of(1), ids(report.getOverpaidManagers()));
+        // Max is 1.5 × 1,000.00; doubles only hold this to a couple of units
+        assertEquals(Cents.toDouble(huge - 150_000), report.getOverpaidManagers().get(0).getDifference(), 4);
+    }
+
+    @Test
+    @DisplayName("Should give the same issues in fixed-point mode on ordinary salaries")
+    void shouldMatchDoubleModeOnOrdinarySalaries() {
+        Random random = new Random(7);
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 250_000.37, null));
+        for (int id = 2; id <= 2_000; id++) {
+            double salary = 30_000 + random.nextInt(90_000) + random.nextInt(100) / 100.0;
+            employees.add(new Employee(id, "First" + id, "Last" + id, salary, 1 + random.nextInt(Math.min(id - 1, 60))));
+        }
+        Organization org = build(employees);
+
+        AnalysisReport expected = engine.analyze(org);
+        AnalysisReport actual = new AnalysisEngine(AppConfig.get(), true).analyze(org);
+
+        assertFalse(actual.getSalaryIssues().isEmpty());
+        assertEquals(expected.getSalaryIssues().size(), actual.getSalaryIssues().size());
+        for (int i = 0; i < expected.getSalaryIssues().size(); i++) {
+            SalaryIssue e = expected.getSalaryIssues().get(i);
+            SalaryIssue a = actual.getSalaryIssues().get(i);
+            assertSame(e.getManager(), a.getManager());
+            assertEquals(e.getType(), a.getType());
+            assertEquals(e.getDifference(), a.getDifference(), 0.01);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep only the K worst issues of each kind, with full counts")
+    void shouldKeepTopK() {
+        Random random = new Random(3);
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 250_000, null));
+        for (int id = 2; id <= 3_000; id++) {
+            double salary = 30_000 + random.nextInt(90_000);
+            employees.add(new Employee(id, "First" + id, "Last" + id, salary, Math.max(1, id - 1 - random.nextInt(30))));
+        }
+        Organization org = build(employees);
+
+        AnalysisReport full = engine.analyze(org);
+        AnalysisReport top = new AnalysisEngine(AppConfig.get(), false, 10).analyze(org);
+
+        assertEquals(10, top.getLimit());
+        assertTrue(top.isTruncated());
+        assertEquals(full.getUnderpaidManagers().size(), top.getUnderpaidCount());
+        assertEquals(full.getOverpaidManagers().size(), top.getOverpaidCount());
+        assertEquals(full.getReportingLineIssues().size(), top.getReportingLineIssueCount());
+        assertEquals(full.getTotalIssueCount(), top.getTotalIssueCount());
+
+        assertEquals(worstIds(full.getUnderpaidManagers()), ids(top.getUnderpaidManagers()));
+        assertEquals(worstIds(full.getOverpaidManagers()), ids(top.getOverpaidManagers()));
+        List<Integer> deepest = full.getReportingLineIssues().stream()
+                .sorted(Comparator.comparingInt(ReportingDepthIssue::getExcessDepth).reversed()
+                        .thenComparingInt(i -> i.getEmployee().getId()))
+                .limit(10)
+                .map(i -> i.getEmployee().getId())
+                .toList();
+        assertEquals(deepest, top.getReportingLineIssues().stream().map(i -> i.getEmployee().getId()).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject a negative top-K limit")
+    void shouldRejectNegativeTopK() {
+        assertThrows(IllegalArgumentException.class, () -> new AnalysisEngine(AppConfig.get(), false, -1));
+    }
+
+    @Test
+    @DisplayName("Should give the same issues with the batched salary check (analysis.vectorized)")
+    void shouldMatchWithVectorizedSalaryCheck() {
+        Random random = new Random(5);
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 250_000.37, null));
+        for (int id = 2; id <= 3_000; id++) {
+            int managerId = 1 + random.nextInt(Math.min(id - 1, 30 + id / 40));
+            double salary = 30_000 + random.nextInt(90_000) + random.nextInt(100) / 100.0;
+            employees.add(new Employee(id, "First" + id, "Last" + id, salary, managerId));
+        }
+        Organization org = build(employees);
+        AnalysisEngine inline = new AnalysisEngine(AppConfig.get(), false, 0, false);
+        AnalysisEngine vectorized = new AnalysisEngine(AppConfig.get(), false, 0, true);
+
+        // The test JVM runs with --add-modules jdk.incubator.vector (see pom.xml)
+        assertTrue(vectorized.isVectorized());
+        assertFalse(inline.isVectorized());
+        assertFalse(new AnalysisEngine(AppConfig.get(), true, 0, true).isVectorized());
+
+        List<String> expected = inline.analyze(org).getSalaryIssues().stream().map(SalaryIssue::toString).toList();
+        List<String> actual = vectorized.analyze(org).getSalaryIssues().stream().map(SalaryIssue::toString).toList();
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+
+        List<String> streamed = new ArrayList<>();
+        vectorized.analyze(org, new IssueSink() {
+            @Override
+            public void startSection(Issue.Type section) {
+            }
+
+            @Override
+            public void accept(SalaryIssue issue) {
+                streamed.add(issue.toString());
+            }
+
+            @Override
+            public void accept(ReportingDepthIssue issue) {
+            }
+
+            @Override
+            public void finish(int totalEmployees, int totalManagers) {
+            }
+        });
+        assertEquals(expected.stream().sorted().toList(), streamed.stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Should stream the same issues section by section")
+    void shouldStreamIssues() {
+        Organization org = build(buildList(
+                regularEmployee().withId(7).withSalary(40000).reportingTo(6),
+                ceo().withId(1).withSalary(200000),
+                manager().withId(2).withSalary(50000).reportingTo(1),
+                manager().withId(3).withSalary(60000).reportingTo(2),
+                manager().withId(4).withSalary(50000).reportingTo(3),
+                manager().withId(5).withSalary(50000).reportingTo(4),
+                manager().withId(6).withSalary(50000).reportingTo(5)
+        ));
+        AnalysisReport report = engine.analyze(org);
+        List<String> events = new ArrayList<>();
+
+        engine.analyze(org, new IssueSink() {
+            @Override
+            public void startSection(Issue.Type section) {
+                events.add(section.name());
+            }
+
+            @Override
+            public void accept(SalaryIssue issue) {
+                events.add(issue.toString());
+            }
+
+            @Override
+            public void accept(ReportingDepthIssue issue) {
+                events.add(issue.toString());
+            }
+
+            @Override
+            public void finish(int totalEmployees, int totalManagers) {
+                events.add("finish " + totalEmployees + " " + totalManagers);
+            }
+        });
+
+        List<String> expected = new ArrayList<>();
+        expected.add("UNDERPAID_ISSUE");
+        report.getUnderpaidManagers().forEach(issue -> expected.add(issue.toString()));
+        expected.add("OVERPAID_ISSUE");
+        report.getOverpaidManagers().forEach(issue -> expected.add(issue.toString()));
+        expected.add("HIERARCHY_DEPTH_ISSUE");
+        report.getReportingLineIssues().forEach(issue -> expected.add(issue.toString()));
+        expected.add("finish 7 6");
+        assertEquals(expected, events);
+    }
+
+    @Test
+    @DisplayName("Should check each manager once when streaming, and build only issues it emits")
+    void shouldStreamWithOneCheckPerManager() {
+        Organization org = build(buildList(
+                ceo().withId(1).withSalary(200000),
+                manager().withId(2).withSalary(40000).reportingTo(1),
+                manager().withId(3).withSalary(90000).reportingTo(1),
+                regularEmployee().withId(4).withSalary(50000).reportingTo(2),
+                regularEmployee().withId(5).withSalary(50000).reportingTo(3)
+        ));
+        int[] verdicts = new int[1];
+        List<Issue.Type> built = new ArrayList<>();
+        AnalysisEngine counting = new AnalysisEngine() {
+            @Override
+            Issue.Type salaryVerdict(Employee manager) {
+                verdicts[0]++;
+                return super.salaryVerdict(manager);
+            }
+
+            @Override
+            SalaryIssue salaryIssue(Employee manager, Issue.Type type) {
+                built.add(type);
+                return super.salaryIssue(manager, type);
+            }
+        };
+
+        counting.analyze(org, new IssueSink() {
+            @Override
+            public void startSection(Issue.Type section) {
+            }
+
+            @Override
+            public void accept(SalaryIssue issue) {
+            }
+
+            @Override
+            public void accept(ReportingDepthIssue issue) {
+            }
+
+            @Override
+            public void finish(int totalEmployees, int totalManagers) {
+            }
+        });
+
+        assertEquals(3, verdicts[0]);
+        // 2 is underpaid; 3 and the CEO (200k against a 65k average) are overpaid
+        assertEquals(List.of(Issue.Type.UNDERPAID_ISSUE, Issue.Type.OVERPAID_ISSUE, Issue.Type.OVERPAID_ISSUE), built);
+    }
+
+    @Test
+    @DisplayName("Should be the default path for Organizations in OrganizationAnalyzer")
+    void shouldBeDefaultForOrganizationAnalyzer() {
+        Organization org = build(buildList(
+                ceo().withId(1).withSalary(100000),
+                regularEmployee().withId(2).withSalary(50000).reportingTo(1)
+        ));
+
+        AnalysisReport report = new OrganizationAnalyzer().analyze(org);
+
+        assertEquals(2, report.getTotalEmployees());
+        assertEquals(1, report.getTotalManagers());
+        assertEquals(1, report.getOverpaidManagers().size());
+    }
+
+    private static List<Integer> worstIds(List<SalaryIssue> issues) {
+        return ids(issues.stream()
+                .sorted(Comparator.comparingDouble(SalaryIssue::getDifference).reversed()
+                        .thenComparingInt(i -> i.getManager().getId()))
+                .limit(10)
+                .toList());
+    }
+
+    private static List<Integer> ids(List<SalaryIssue> issues) {
+        return issues.stream().map(i -> i.getManager().getId()).toList();
+    }
+
+    private static Organization build(List<Employee> employees) {
+        OrganizationBuilder.Result result = new OrganizationBuilder().addAll(employees).build();
+        assertTrue(result.isValid(), () -> result.errors().toString());
+        return result.organization();
+    }
+
+    @Test
+    @DisplayName("Should analyze the org as it is after a reassign")
+    void testAnalyze_AfterReassign() {
+        Organization org = deepLine(8);
+        Employee ceo = org.getEmployeeById(1);
+        org.reassign(List.of(org.getEmployeeById(8)), ceo);
+
+        AnalysisReport report = engine.analyze(org);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        AnalysisReport parallel;
+        try {
+            parallel = new ParallelAnalysisEngine(AppConfig.get(), pool, 1).analyze(org);
+        } finally {
+            pool.shutdown();
+        }
+
+        // Only 6 (depth 5) and 7 (depth 6) are still too deep; 8 now reports to the CEO
+        for (AnalysisReport r : List.of(report, parallel)) {
+            assertEquals(List.of(6, 7), r.getReportingLineIssues().stream()
+                    .map(issue -> issue.getEmployee().getId()).toList());
+            assertEquals(List.of(5, 6), r.getReportingLineIssues().stream()
+                    .map(ReportingDepthIssue::getActualDepth).toList());
+            for (ReportingDepthIssue issue : r.getReportingLineIssues()) {
+                assertEquals(issue.getActualDepth(), issue.getReportingChain().size());
+            }
+        }
+        // The CEO's reports are now 2 and 8, so the salary check sees both
+        assertEquals((50000 + 20000) / 2.0, ceo.getAvgSalaryOfSubordinates());
+    }
+
+    @Test
+    @DisplayName("Should take depths from the same links as the salary totals")
+    void testAnalyze_DepthsFollowWiredLinks() {
+        Organization org = deepLine(8);
+        // Moved behind the org's back – the totals follow the link, so depths must too
+        org.getEmployeeById(8).setManager(org.getEmployeeById(1));
+
+        AnalysisReport report = engine.analyze(org);
+
+        assertEquals(List.of(6, 7), report.getReportingLineIssues().stream()
+                .map(issue -> issue.getEmployee().getId()).toList());
+        assertEquals(new ReportingDepthAnalyzer().analyzeReportingDepth(org).size(),
+                report.getReportingLineIssueCount());
+    }
+
+    /** 1 <- 2 <- ... <- size, CEO on 300k, everyone else on 50k except the last (20k). */
+    private static Organization deepLine(int size) {
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 300000, null));
+        for (int id = 2; id <= size; id++) {
+            employees.add(new Employee(id, "First" + id, "Last", id == size ? 20000 : 50000, id - 1));
+        }
+        Organization org = new Organization(employees);
+        org.buildHierarchy();
+        return org;
+    }
+}
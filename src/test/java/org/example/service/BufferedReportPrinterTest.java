@@ -0,0 +1,133 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.AnalysisReport;
+import org.example.model.Employee;
+import org.example.model.Issue;
+import org.example.model.IssueSink;
+import org.example.model.Organization;
+import org.example.model.SalaryIssue;
+import org.example.model.TopIssues;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BufferedReportPrinter Tests")
+class BufferedReportPrinterTest {
+
+    private ByteArrayOutputStream expected;
+    private ByteArrayOutputStream actual;
+
+    @BeforeEach
+    void setUp() {
+        resetIdGenerator();
+        expected = new ByteArrayOutputStream();
+        actual = new ByteArrayOutputStream();
+    }
+
+    @Test
+    @DisplayName("Should print the same bytes as ReportPrinter for an empty report")
+    void testPrintReport_Empty() {
+        AnalysisReport report = new AnalysisReport(Collections.emptyList(), Collections.emptyList(), 10, 3);
+
+        new ReportPrinter(new PrintStream(expected)).printReport(report);
+        new BufferedReportPrinter(actual).printReport(report);
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should print the same bytes as ReportPrinter for a large random org")
+    void testPrintReport_MatchesReportPrinter() {
+        Organization org = randomOrganization(5_000);
+        AnalysisReport report = new OrganizationAnalyzer().analyze(org);
+        assertTrue(report.getTotalIssueCount() > 1_000, "should need several buffer flushes");
+
+        new ReportPrinter(new PrintStream(expected)).printReport(report);
+        new BufferedReportPrinter(actual).printReport(report);
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should encode names and box drawing in the given charset like a PrintStream would")
+    void testPrintReport_Utf8() {
+        Organization org = randomOrganization(2_000);
+        AnalysisReport report = new OrganizationAnalyzer().analyze(org);
+
+        new ReportPrinter(new PrintStream(expected, false, StandardCharsets.UTF_8)).printReport(report);
+        new BufferedReportPrinter(actual, StandardCharsets.UTF_8, AppConfig.get()).printReport(report);
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+        assertTrue(actual.toString(StandardCharsets.UTF_8).contains("Zoë Ångström"));
+    }
+
+    @Test
+    @DisplayName("Should stream the same bytes as ReportPrinter.streamReport()")
+    void testStreamReport_MatchesReportPrinter() {
+        Organization org = randomOrganization(3_000);
+        OrganizationAnalyzer analyzer = new OrganizationAnalyzer();
+
+        analyzer.analyze(org, new ReportPrinter(new PrintStream(expected)).streamReport());
+        analyzer.analyze(org, new BufferedReportPrinter(actual).streamReport());
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should print nothing but the header until the stream finishes")
+    void testStreamReport_FlushesOnFinish() {
+        IssueSink sink = new BufferedReportPrinter(actual).streamReport();
+        sink.startSection(Issue.Type.UNDERPAID_ISSUE);
+        assertEquals(0, actual.size());
+
+        sink.startSection(Issue.Type.OVERPAID_ISSUE);
+        sink.startSection(Issue.Type.HIERARCHY_DEPTH_ISSUE);
+        sink.finish(1, 0);
+
+        assertEquals(3, actual.toString().split("No issues found\\.").length - 1);
+    }
+
+    @Test
+    @DisplayName("Should print the top-K truncation line like ReportPrinter")
+    void testPrintReport_TopK() {
+        TopIssues top = new TopIssues(1);
+        top.add(new SalaryIssue(manager().withId(1).withSalary(50000).build(),
+                Issue.Type.UNDERPAID_ISSUE, 50000, 60000, 75000));
+        top.add(new SalaryIssue(manager().withId(2).withSalary(55000).build(),
+                Issue.Type.UNDERPAID_ISSUE, 50000, 60000, 75000));
+        AnalysisReport report = top.toReport(10, 2);
+
+        new ReportPrinter(new PrintStream(expected)).printReport(report);
+        new BufferedReportPrinter(actual).printReport(report);
+
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+        assertTrue(actual.toString().contains("(Showing the 1 worst of 2)"));
+    }
+
+    /** Deep, bushy org with cent-level salaries, so every section has plenty of issues. */
+    private static Organization randomOrganization(int size) {
+        Random random = new Random(size);
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Zoë", "Ångström", 500_000, null));
+        for (int id = 2; id <= size; id++) {
+            int managerId = 1 + random.nextInt(Math.max(1, Math.min(id - 1, 40 + id / 10)));
+            double salary = 20_000 + random.nextInt(20_000_000) / 100.0;
+            employees.add(new Employee(id, "First" + id, "Last" + (id % 97), salary, managerId));
+        }
+        Organization org = new Organization(employees);
+        org.buildHierarchy();
+        return org;
+    }
+}
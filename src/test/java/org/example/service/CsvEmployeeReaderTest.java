@@ -7,9 +7,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -177,6 +180,134 @@ class CsvEmployeeReaderTest {
         assertEquals("Doe", employees.get(0).getLastName());
     }
     
+    @Test
+    @DisplayName("Should stream employees lazily in file order")
+    void shouldStreamEmployees() throws IOException {
+        String csvContent = """
+                Id,firstName,lastName,salary,managerId
+                123,Joe,Doe,60000,
+                
+                124,Martin,Chekov,45000,123
+                125,Bob,Ronstad,47000,123
+                """;
+        
+        Path csvFile = createTempCsvFile(csvContent);
+        try (Stream<Employee> stream = reader.streamEmployees(csvFile)) {
+            assertEquals(List.of(123, 124), stream.limit(2).map(Employee::getId).toList());
+        }
+        try (Stream<Employee> stream = reader.streamEmployees(csvFile)) {
+            assertEquals(152000, stream.mapToDouble(Employee::getSalary).sum());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should only fail the stream when the bad row is reached")
+    void shouldFailStreamAtBadRow() throws IOException {
+        String csvContent = """
+                Id,firstName,lastName,salary,managerId
+                123,Joe,Doe,60000,
+                124,Martin,Chekov,oops,123
+                """;
+        
+        Path csvFile = createTempCsvFile(csvContent);
+        try (Stream<Employee> stream = reader.streamEmployees(csvFile)) {
+            assertEquals(123, stream.findFirst().orElseThrow().getId());
+        }
+        try (Stream<Employee> stream = reader.streamEmployees(csvFile)) {
+            UncheckedIOException exception = assertThrows(UncheckedIOException.class, stream::count);
+            assertTrue(exception.getCause().getMessage().startsWith("Error parsing line 3"));
+        }
+    }
+    
+    @Test
+    @DisplayName("Should give an empty stream for header only file")
+    void shouldStreamNothingForHeaderOnlyFile() throws IOException {
+        Path csvFile = createTempCsvFile("Id,firstName,lastName,salary,managerId\n");
+        
+        try (Stream<Employee> stream = reader.streamEmployees(csvFile)) {
+            assertEquals(0, stream.count());
+        }
+        assertThrows(IOException.class, () -> reader.streamEmployees(createTempCsvFile("")));
+    }
+    
+    @Test
+    @DisplayName("Should parse salaries as exact cents in fixed-point mode")
+    void shouldParseFixedPointSalaries() throws IOException {
+        Path csvFile = createTempCsvFile("""
+                Id,firstName,lastName,salary,managerId
+                123,Joe,Doe,60000.29,
+                124,Martin,Chekov,45000.5,123
+                """);
+        
+        List<Employee> employees = new CsvEmployeeReader(true).readEmployees(csvFile);
+        
+        assertEquals(6_000_029, employees.get(0).getSalaryCents());
+        assertEquals(60000.29, employees.get(0).getSalary());
+        assertEquals(4_500_050, employees.get(1).getSalaryCents());
+    }
+    
+    @Test
+    @DisplayName("Should reject salaries with more than two decimals in fixed-point mode")
+    void shouldRejectSubCentSalariesInFixedPointMode() throws IOException {
+        Path csvFile = createTempCsvFile("""
+                Id,firstName,lastName,salary,managerId
+                123,Joe,Doe,60000.125,
+                """);
+        
+        IOException exception = assertThrows(IOException.class, () -> new CsvEmployeeReader(true).readEmployees(csvFile));
+        assertTrue(exception.getMessage().contains("Invalid number format"));
+        assertEquals(60000.125, reader.readEmployees(csvFile).get(0).getSalary());
+    }
+    
+    @Test
+    @DisplayName("Should hand rows over one by one with the same errors as readEmployees")
+    void shouldFeedEachEmployee() throws IOException {
+        Path csvFile = createTempCsvFile("""
+                Id,firstName,lastName,salary,managerId
+                1,Joe,Doe,60000,
+
+                2,Ann,Lee,50000,1
+                """);
+        List<Integer> ids = new ArrayList<>();
+
+        assertEquals(2, reader.forEachEmployee(csvFile, employee -> ids.add(employee.getId())));
+        assertEquals(List.of(1, 2), ids);
+
+        Path badFile = createTempCsvFile("Id,firstName,lastName,salary,managerId\n1,Joe,Doe,oops,\n");
+        IOException bad = assertThrows(IOException.class, () -> reader.forEachEmployee(badFile, employee -> { }));
+        assertTrue(bad.getMessage().startsWith("Error parsing line 2"));
+
+        Path headerOnly = createTempCsvFile("Id,firstName,lastName,salary,managerId\n");
+        assertEquals("No employee data found in file",
+                assertThrows(IOException.class, () -> reader.forEachEmployee(headerOnly, employee -> { })).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should let the caller's own exceptions through unchanged in every reader mode")
+    void shouldNotUnwrapCallerExceptions() throws IOException {
+        Path csvFile = createTempCsvFile("""
+                Id,firstName,lastName,salary,managerId
+                1,Joe,Doe,60000,
+                2,Ann,Lee,50000,1
+                """);
+        UncheckedIOException fromAction = new UncheckedIOException(new IOException("sink failed"));
+        IllegalArgumentException rejected = new IllegalArgumentException("rejected");
+
+        for (ReaderMode mode : ReaderMode.values()) {
+            CsvEmployeeReader modeReader = mode.newReader(false);
+            assertSame(fromAction, assertThrows(UncheckedIOException.class,
+                    () -> modeReader.forEachEmployee(csvFile, employee -> { throw fromAction; })), mode.getName());
+            assertSame(rejected, assertThrows(IllegalArgumentException.class,
+                    () -> modeReader.forEachEmployee(csvFile, employee -> { throw rejected; })), mode.getName());
+
+            // Not mistaken for a parse error when the stream itself runs the caller's code
+            try (Stream<Employee> stream = modeReader.streamEmployees(csvFile)) {
+                assertSame(rejected, assertThrows(IllegalArgumentException.class,
+                        () -> stream.forEach(employee -> { throw rejected; })), mode.getName());
+            }
+        }
+    }
+
     private Path createTempCsvFile(String content) throws IOException {
         Path csvFile = tempDir.resolve("test.csv");
         Files.writeString(csvFile, content);
@@ -0,0 +1,100 @@
+package org.example.service;
+
+import org.example.model.AnalysisReport;
+import org.example.model.Employee;
+import org.example.model.Issue;
+import org.example.model.Organization;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CsvReportWriter Tests")
+class CsvReportWriterTest {
+
+    private ByteArrayOutputStream outputStream;
+    private CsvReportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        resetIdGenerator();
+        outputStream = new ByteArrayOutputStream();
+        writer = new CsvReportWriter(Channels.newChannel(outputStream));
+    }
+
+    @Test
+    @DisplayName("Should write a header and one row per issue, all the same width")
+    void testPrintReport_Rows() {
+        Employee ceo = ceo().withId(1).build();
+        Employee manager = manager().withId(2).withFirstName("John").withLastName("Doe").withSalary(90000).build();
+        Employee worker = regularEmployee().withId(7).withFirstName("Bob").withLastName("Lee").build();
+        AnalysisReport report = new AnalysisReport(
+                List.of(new SalaryIssue(manager, Issue.Type.OVERPAID_ISSUE, 50000, 60000, 75000)),
+                List.of(new ReportingDepthIssue(worker, 6, List.of(manager, ceo), 4)),
+                7, 2);
+
+        writer.printReport(report);
+
+        assertEquals(CsvReportWriter.HEADER
+                + "OVERPAID_ISSUE,2,John,Doe,90000.00,50000.00,60000.00,75000.00,15000.00,,,,\n"
+                + "HIERARCHY_DEPTH_ISSUE,7,Bob,Lee,,,,,,6,4,2,2;1\n", output());
+        for (String line : output().split("\n")) {
+            assertEquals(12, line.chars().filter(c -> c == ',').count(), line);
+        }
+    }
+
+    @Test
+    @DisplayName("Should quote fields with commas, quotes, line breaks or edge spaces")
+    void testPrintReport_Quoting() {
+        Employee manager = manager().withId(3).withFirstName("Zoë \"Z\"").withLastName("Smith, Jr.").build();
+        Employee worker = regularEmployee().withId(4).withFirstName(" Ann").withLastName("Line\nTwo").build();
+        AnalysisReport report = new AnalysisReport(
+                List.of(new SalaryIssue(manager, Issue.Type.OVERPAID_ISSUE, 1, 1.2, 1.5)),
+                List.of(new ReportingDepthIssue(worker, 5, List.of(manager), 4)), 2, 1);
+
+        writer.printReport(report);
+
+        assertTrue(output().contains("OVERPAID_ISSUE,3,\"Zoë \"\"Z\"\"\",\"Smith, Jr.\","), output());
+        assertTrue(output().contains("HIERARCHY_DEPTH_ISSUE,4,\" Ann\",\"Line\nTwo\","), output());
+    }
+
+    @Test
+    @DisplayName("Should write just the header when there are no issues")
+    void testPrintReport_NoIssues() {
+        writer.printReport(new AnalysisReport(Collections.emptyList(), Collections.emptyList(), 1, 0));
+
+        assertEquals(CsvReportWriter.HEADER, output());
+    }
+
+    @Test
+    @DisplayName("Should stream the same rows printReport writes")
+    void testStreamReport_MatchesPrintReport() {
+        Organization org = JsonLinesReportWriterTest.randomOrganization(5_000);
+        OrganizationAnalyzer analyzer = new OrganizationAnalyzer();
+        AnalysisReport report = analyzer.analyze(org);
+
+        writer.printReport(report);
+        String full = output();
+        outputStream.reset();
+        analyzer.analyze(org, writer.streamReport());
+
+        assertEquals(full, output());
+        assertTrue(report.getTotalIssueCount() > 1_000);
+        // Last names have commas in them, so the quoting mustn't add or split rows
+        assertEquals(report.getTotalIssueCount() + 1, full.split("\n").length);
+    }
+
+    private String output() {
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CurrencyFormat Tests")
+class CurrencyFormatTest {
+
+    @Test
+    @DisplayName("Should match %,.2f on random amounts")
+    void testAppendAmount_MatchesFormatter() {
+        CurrencyFormat format = new CurrencyFormat(Locale.US);
+        Random random = new Random(42);
+        for (int i = 0; i < 200_000; i++) {
+            double value = switch (i % 4) {
+                case 0 -> random.nextDouble() * 1_000_000;
+                case 1 -> random.nextInt(100_000_000) / 100.0 * 1.2;
+                case 2 -> Math.scalb(random.nextDouble(), random.nextInt(40) - 10);
+                default -> -random.nextDouble() * 5_000;
+            };
+            assertFormats(format, Locale.US, value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should round half-cent ties the way Formatter does")
+    void testAppendAmount_Ties() {
+        CurrencyFormat format = new CurrencyFormat(Locale.US);
+        // 1.005 and friends are just below the tie in binary, but Formatter rounds them up
+        for (long k = 0; k < 300_000; k++) {
+            assertFormats(format, Locale.US, (k * 10 + 5) / 1000.0);
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long k = random.nextLong(99_999_999_999_999L);
+            assertFormats(format, Locale.US, (k * 10 + 5) / 1000.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should handle zero, negative zero and grouping edges")
+    void testAppendAmount_Edges() {
+        CurrencyFormat format = new CurrencyFormat(Locale.US);
+        for (double value : new double[] {0.0, -0.0, -0.001, 0.004999, 999.995, 999_999.999, 1_000_000,
+                123_456_789.125, 999_999_999_999.99, Double.MIN_VALUE}) {
+            assertFormats(format, Locale.US, value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should use the locale's separators")
+    void testAppendAmount_GermanSeparators() {
+        CurrencyFormat format = new CurrencyFormat(Locale.GERMANY);
+        assertFormats(format, Locale.GERMANY, 1_234_567.891);
+        assertFormats(format, Locale.GERMANY, 0.5);
+    }
+
+    @Test
+    @DisplayName("Should leave values it can't format fast to the caller")
+    void testAppendAmount_Fallback() {
+        CurrencyFormat format = new CurrencyFormat(Locale.US);
+        char[] out = new char[CurrencyFormat.MAX_LENGTH];
+
+        assertEquals(-1, format.appendAmount(Double.NaN, out, 0));
+        assertEquals(-1, format.appendAmount(Double.POSITIVE_INFINITY, out, 0));
+        assertEquals(-1, format.appendAmount(1e15, out, 0));
+        assertEquals(-1, new CurrencyFormat(Locale.forLanguageTag("ar-EG-u-nu-arab")).appendInt(5, out, 0));
+    }
+
+    @Test
+    @DisplayName("Should match %d")
+    void testAppendInt_MatchesFormatter() {
+        CurrencyFormat format = new CurrencyFormat(Locale.US);
+        char[] out = new char[CurrencyFormat.MAX_LENGTH];
+        for (int value : new int[] {0, 7, -7, 1000, 123_456_789, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            int end = format.appendInt(value, out, 0);
+            assertEquals(String.format(Locale.US, "%d", value), new String(out, 0, end));
+        }
+    }
+
+    private static void assertFormats(CurrencyFormat format, Locale locale, double value) {
+        char[] out = new char[CurrencyFormat.MAX_LENGTH + 2];
+        out[0] = '$';
+        int end = format.appendAmount(value, out, 1);
+        assertEquals("$" + String.format(locale, "%,.2f", value), new String(out, 0, end), "value " + value);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.service;
+
+import org.example.model.AnalysisReport;
+import org.example.model.Employee;
+import org.example.model.Issue;
+import org.example.model.Organization;
+import org.example.model.ReportingDepthIssue;
+import org.example.model.SalaryIssue;
+import org.example.model.TopIssues;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JsonLinesReportWriter Tests")
+class JsonLinesReportWriterTest {
+
+    private ByteArrayOutputStream outputStream;
+    private JsonLinesReportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        resetIdGenerator();
+        outputStream = new ByteArrayOutputStream();
+        writer = new JsonLinesReportWriter(Channels.newChannel(outputStream));
+    }
+
+    @Test
+    @DisplayName("Should write one object per issue and a summary last")
+    void testPrintReport_Records() {
+        Employee ceo = ceo().withId(1).withFirstName("Ann").withLastName("Boss").build();
+        Employee manager = manager().withId(2).withFirstName("John").withLastName("Doe").withSalary(50000).build();
+        Employee worker = regularEmployee().withId(7).withFirstName("Bob").withLastName("Lee").build();
+        AnalysisReport report = new AnalysisReport(
+                List.of(new SalaryIssue(manager, Issue.Type.UNDERPAID_ISSUE, 45000, 54000, 67500.125)),
+                List.of(new ReportingDepthIssue(worker, 6, List.of(manager, ceo), 4)),
+                7, 2);
+
+        writer.printReport(report);
+
+        assertEquals("""
+                {"type":"UNDERPAID_ISSUE","id":2,"firstName":"John","lastName":"Doe","salary":50000.00,\
+                "subordinatesAverage":45000.00,"expectedMin":54000.00,"expectedMax":67500.13,"difference":4000.00}
+                {"type":"HIERARCHY_DEPTH_ISSUE","id":7,"firstName":"Bob","lastName":"Lee","depth":6,\
+                "maxAllowedDepth":4,"excessDepth":2,"chain":[2,1]}
+                {"type":"SUMMARY","totalEmployees":7,"totalManagers":2,"underpaid":1,"overpaid":0,\
+                "reportingLineTooLong":1,"issues":2}
+                """, output());
+    }
+
+    @Test
+    @DisplayName("Should escape quotes, backslashes and control chars and write UTF-8")
+    void testPrintReport_EscapesNames() {
+        Employee manager = manager().withId(3).withFirstName("Zoë \"Z\"").withLastName("a\\b\n\u0001😀").build();
+        AnalysisReport report = new AnalysisReport(
+                List.of(new SalaryIssue(manager, Issue.Type.OVERPAID_ISSUE, 1, 1.2, 1.5)),
+                Collections.emptyList(), 2, 1);
+
+        writer.printReport(report);
+
+        assertTrue(output().contains("\"firstName\":\"Zoë \\\"Z\\\"\",\"lastName\":\"a\\\\b\\n\\u0001😀\""),
+                output());
+    }
+
+    @Test
+    @DisplayName("Should report full counts in the summary of a top-K report")
+    void testPrintReport_TopK() {
+        TopIssues top = new TopIssues(1);
+        top.add(new SalaryIssue(manager().withId(1).withSalary(50000).build(),
+                Issue.Type.UNDERPAID_ISSUE, 50000, 60000, 75000));
+        top.add(new SalaryIssue(manager().withId(2).withSalary(55000).build(),
+                Issue.Type.UNDERPAID_ISSUE, 50000, 60000, 75000));
+
+        writer.printReport(top.toReport(10, 2));
+        String[] lines = output().split("\n");
+
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains("\"underpaid\":2"));
+        assertTrue(lines[1].contains("\"issues\":2"));
+    }
+
+    @Test
+    @DisplayName("Should stream the same lines printReport writes, amounts like %.2f")
+    void testStreamReport_MatchesPrintReport() {
+        Organization org = randomOrganization(5_000);
+        OrganizationAnalyzer analyzer = new OrganizationAnalyzer();
+        AnalysisReport report = analyzer.analyze(org);
+
+        writer.printReport(report);
+        String full = output();
+        outputStream.reset();
+        analyzer.analyze(org, writer.streamReport());
+
+        assertEquals(full, output());
+        String[] lines = full.split("\n");
+        assertEquals(report.getTotalIssueCount() + 1, lines.length);
+        SalaryIssue first = report.getSalaryIssues().get(0);
+        assertTrue(lines[0].contains("\"salary\":" + String.format(Locale.ROOT, "%.2f", first.getCurrentSalary())
+                + ",\"subordinatesAverage\":"
+                + String.format(Locale.ROOT, "%.2f", first.getSubordinatesAverageSalary()) + ","), lines[0]);
+    }
+
+    private String output() {
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    /** Deep, bushy org with cent-level salaries. */
+    static Organization randomOrganization(int size) {
+        Random random = new Random(size);
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Zoë", "Ångström", 500_000, null));
+        for (int id = 2; id <= size; id++) {
+            int managerId = 1 + random.nextInt(Math.min(id - 1, 40 + id / 10));
+            double salary = 20_000 + random.nextInt(20_000_000) / 100.0;
+            employees.add(new Employee(id, "First" + id, "Last, " + (id % 97), salary, managerId));
+        }
+        Organization org = new Organization(employees);
+        org.buildHierarchy();
+        return org;
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the memory-mapped CSV reader.
+ */
+@DisplayName("Mapped CSV Employee Reader Tests")
+class MappedCsvEmployeeReaderTest {
+
+    private MappedCsvEmployeeReader reader;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        reader = new MappedCsvEmployeeReader();
+    }
+
+    @Test
+    @DisplayName("Should read valid CSV file with multiple employees")
+    void shouldReadValidCsvFile() throws IOException {
+        String csvContent = """
+                Id,firstName,lastName,salary,managerId
+                123,Joe,Doe,60000,
+                124,Martin,Chekov,45000,123
+                125,Bob,Ronstad,47000.75,123
+                """;
+
+        List<Employee> employees = reader.readEmployees(createTempCsvFile(csvContent));
+
+        assertEquals(3, employees.size());
+        assertEquals(123, employees.get(0).getId());
+        assertEquals("Joe", employees.get(0).getFirstName());
+        assertNull(employees.get(0).getManagerId());
+        assertEquals(123, employees.get(1).getManagerId());
+        assertEquals(47000.75, employees.get(2).getSalary());
+    }
+
+    @Test
+    @DisplayName("Should match the default reader field by field")
+    void shouldMatchDefaultReader() throws IOException {
+        String csvContent = """
+                Id,firstName,lastName,salary,managerId
+                1 , Ann , Lee , 1234.5 ,
+                2,Bo,Kim,0.1,1
+
+                3,Cy,Ray,+77.125,1
+                4,Di,Zed,1e3,1
+                5,Ed,Fox,123456789012345678901,1
+                """;
+        Path csvFile = createTempCsvFile(csvContent);
+
+        List<Employee> expected = new CsvEmployeeReader().readEmployees(csvFile);
+        List<Employee> actual = reader.readEmployees(csvFile);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            assertEquals(expected.get(i).getSalary(), actual.get(i).getSalary());
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode UTF-8 names")
+    void shouldDecodeUtf8Names() throws IOException {
+        String csvContent = """
+                Id,firstName,lastName,salary,managerId
+                1,Zoë,Ångström,60000,
+                """;
+
+        List<Employee> employees = reader.readEmployees(createTempCsvFile(csvContent));
+
+        assertEquals("Zoë Ångström", employees.get(0).getFullName());
+    }
+
+    @Test
+    @DisplayName("Should handle CRLF line endings and a missing trailing newline")
+    void shouldHandleCrlfAndNoTrailingNewline() throws IOException {
+        String csvContent = "Id,firstName,lastName,salary,managerId\r\n1,Joe,Doe,60000,\r\n2,Ann,Lee,50000,1";
+
+        List<Employee> employees = reader.readEmployees(createTempCsvFile(csvContent));
+
+        assertEquals(2, employees.size());
+        assertEquals("Lee", employees.get(1).getLastName());
+        assertEquals(1, employees.get(1).getManagerId());
+    }
+
+    @Test
+    @DisplayName("Should read lines that straddle mapping windows")
+    void shouldReadAcrossWindowBoundaries() throws IOException {
+        StringBuilder csv = new StringBuilder("Id,firstName,lastName,salary,managerId\r\n1,Chief,Exec,900000,\r\n");
+        for (int id = 2; id <= 200; id++) {
+            csv.append(id).append(",First").append(id).append(",Last,").append(1000 + id).append(",1\r\n");
+        }
+        Path csvFile = createTempCsvFile(csv.toString());
+
+        // 7 bytes is shorter than every line, so windows have to grow and slide
+        List<Employee> employees = new MappedCsvEmployeeReader(7).readEmployees(csvFile);
+
+        assertEquals(200, employees.size());
+        assertEquals("First200", employees.get(199).getFirstName());
+        assertEquals(1200, employees.get(199).getSalary());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for empty file")
+    void shouldThrowExceptionForEmptyFile() throws IOException {
+        Path csvFile = createTempCsvFile("");
+
+        IOException exception = assertThrows(IOException.class, () -> reader.readEmployees(csvFile));
+        assertEquals("Empty CSV file", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for header only file")
+    void shouldThrowExceptionForHeaderOnlyFile() throws IOException {
+        Path csvFile = createTempCsvFile("Id,firstName,lastName,salary,managerId\n");
+
+        IOException exception = assertThrows(IOException.class, () -> reader.readEmployees(csvFile));
+        assertEquals("No employee data found in file", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should report the same parse errors as the default reader")
+    void shouldReportSameErrorsAsDefaultReader() throws IOException {
+        String[] badLines = {
+                "123,Joe,Doe,60000",
+                "123,Joe,Doe,invalid,",
+                "abc,Joe,Doe,60000,",
+                "123,Joe,Doe,-1000,",
+                "0,Joe,Doe,1000,",
+                "123,,Doe,60000,",
+                "123,Joe, ,60000,",
+                "123,Joe,Doe,60000,x1",
+                "123,Joe,Doe,,"
+        };
+        for (String badLine : badLines) {
+            Path csvFile = createTempCsvFile("Id,firstName,lastName,salary,managerId\n1,Ok,Row,1,\n\n" + badLine + "\n");
+
+            IOException expected = assertThrows(IOException.class, () -> new CsvEmployeeReader().readEmployees(csvFile));
+            IOException actual = assertThrows(IOException.class, () -> reader.readEmployees(csvFile));
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+            assertTrue(actual.getMessage().startsWith("Error parsing line 4: "));
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream rows lazily from the mapped file")
+    void shouldStreamEmployees() throws IOException {
+        String csvContent = """
+                Id,firstName,lastName,salary,managerId
+                1,Joe,Doe,60000,
+
+                2,Ann,Lee,50000,1
+                3,Bad,Row,oops,1
+                """;
+        Path csvFile = createTempCsvFile(csvContent);
+
+        try (Stream<Employee> stream = new MappedCsvEmployeeReader(8).streamEmployees(csvFile)) {
+            assertEquals(List.of(1, 2), stream.limit(2).map(Employee::getId).toList());
+        }
+        try (Stream<Employee> stream = reader.streamEmployees(csvFile)) {
+            UncheckedIOException exception = assertThrows(UncheckedIOException.class, stream::count);
+            assertTrue(exception.getCause().getMessage().startsWith("Error parsing line 5"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse exact cents like the default reader in fixed-point mode")
+    void shouldParseFixedPointSalaries() throws IOException {
+        String csvContent = """
+                Id,firstName,lastName,salary,managerId
+                1,Ann,Lee, 0.1 ,
+                2,Bob,Ray,+12,1
+                3,Cid,Moe,47000.75,1
+                4,Dee,Kay,99999999999999.99,1
+                5,Eve,Roe,9999999999999999.99,1
+                """;
+        Path csvFile = createTempCsvFile(csvContent);
+
+        List<Employee> expected = new CsvEmployeeReader(true).readEmployees(csvFile);
+        List<Employee> actual = new MappedCsvEmployeeReader(7, true).readEmployees(csvFile);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSalaryCents(), actual.get(i).getSalaryCents());
+            assertEquals(expected.get(i).getSalary(), actual.get(i).getSalary());
+        }
+        assertEquals(10, actual.get(0).getSalaryCents());
+        assertEquals(9_999_999_999_999_999L, actual.get(3).getSalaryCents());
+        assertEquals(999_999_999_999_999_999L, actual.get(4).getSalaryCents());
+        assertEquals(expected.get(2).getSalary(), new MappedCsvEmployeeReader(true).readTable(csvFile).getSalary(2));
+    }
+
+    @Test
+    @DisplayName("Should report the same fixed-point parse errors as the default reader")
+    void shouldReportSameFixedPointErrors() throws IOException {
+        String[] badLines = {
+                "123,Joe,Doe,60000.123,",
+                "123,Joe,Doe,1e5,",
+                "123,Joe,Doe,.,",
+                "123,Joe,Doe,-0.01,",
+                "123,Joe,Doe,123456789012345678,",
+                "123,Joe,Doe,99999999999999999,",
+                "123,Joe,Doe,10000000000000000.01,"
+        };
+        for (String badLine : badLines) {
+            Path csvFile = createTempCsvFile("Id,firstName,lastName,salary,managerId\n1,Ok,Row,1,\n" + badLine + "\n");
+
+            IOException expected = assertThrows(IOException.class, () -> new CsvEmployeeReader(true).readEmployees(csvFile));
+            IOException actual = assertThrows(IOException.class, () -> new MappedCsvEmployeeReader(true).readEmployees(csvFile));
+
+            assertEquals(expected.getMessage(), actual.getMessage());
+        }
+    }
+
+    private Path createTempCsvFile(String content) throws IOException {
+        Path csvFile = tempDir.resolve("test.csv");
+        Files.writeString(csvFile, content, StandardCharsets.UTF_8);
+        return csvFile;
+    }
+}
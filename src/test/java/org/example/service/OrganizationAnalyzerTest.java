@@ -2,6 +2,7 @@ package org.example.service;
 
 import org.example.model.AnalysisReport;
 import org.example.model.Employee;
+import org.example.model.Organization;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -180,4 +181,31 @@ class OrganizationAnalyzerTest {
         assertEquals(0, report.getTotalManagers());  // CEO has no subordinates
         assertFalse(report.hasIssues());
     }
+
+    @Test
+    @DisplayName("Should produce the same report from a loaded Organization")
+    void shouldAnalyzeOrganization() {
+        List<Employee> employees = buildList(
+                regularEmployee().withId(7).withSalary(40000).reportingTo(6),  // Depth 6 > 4 (listed before its managers)
+                ceo().withId(1).withSalary(200000),
+                manager().withId(2).withSalary(50000).reportingTo(1),   // Underpaid
+                manager().withId(3).withSalary(60000).reportingTo(2),
+                manager().withId(4).withSalary(50000).reportingTo(3),
+                manager().withId(5).withSalary(50000).reportingTo(4),
+                manager().withId(6).withSalary(50000).reportingTo(5)     // Depth 5 > 4
+        );
+        Organization org = new Organization(employees);
+        org.buildHierarchy();
+
+        AnalysisReport expected = analyzer.analyze(employees);
+        AnalysisReport actual = analyzer.analyze(org);
+
+        assertEquals(7, actual.getTotalEmployees());
+        assertEquals(expected.getTotalManagers(), actual.getTotalManagers());
+        assertEquals(expected.getSalaryIssues().toString(), actual.getSalaryIssues().toString());
+        assertEquals(List.of(7, 6), actual.getReportingLineIssues().stream()
+                .map(issue -> issue.getEmployee().getId()).toList());
+        assertEquals(expected.getReportingLineIssues().get(0).getReportingChain(),
+                actual.getReportingLineIssues().get(0).getReportingChain());
+    }
 }
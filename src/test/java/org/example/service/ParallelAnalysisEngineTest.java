@@ -0,0 +1,162 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.AnalysisReport;
+import org.example.model.Employee;
+import org.example.model.Organization;
+import org.example.validators.OrganizationBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the subtree-parallel analysis engine.
+ */
+@DisplayName("Parallel Analysis Engine Tests")
+class ParallelAnalysisEngineTest {
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should produce the same report as the sequential engine")
+    void shouldMatchSequentialEngine() {
+        Organization org = randomOrganization(20_000, new Random(7));
+
+        AnalysisReport expected = new AnalysisEngine().analyze(org);
+        AnalysisReport actual = new ParallelAnalysisEngine(AppConfig.get(), pool, 64).analyze(org);
+
+        assertSameReport(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Should handle a long single line split into many tasks")
+    void shouldHandleLongSingleLine() {
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 1_000_000, null));
+        for (int id = 2; id <= 50_000; id++) {
+            employees.add(new Employee(id, "Deep", "Worker" + id, 1_000_000 - id, id - 1));
+        }
+        Organization org = build(employees);
+
+        AnalysisReport expected = new AnalysisEngine().analyze(org);
+        AnalysisReport actual = new ParallelAnalysisEngine(AppConfig.get(), pool, 16).analyze(org);
+
+        assertEquals(50_000 - 5, actual.getReportingLineIssues().size());
+        assertSameReport(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the sequential path for small orgs")
+    void shouldHandleSmallOrganization() {
+        Organization org = randomOrganization(100, new Random(1));
+
+        assertSameReport(new AnalysisEngine().analyze(org), new ParallelAnalysisEngine().analyze(org));
+    }
+
+    @Test
+    @DisplayName("Should reject a negative task size")
+    void shouldRejectNegativeTaskSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelAnalysisEngine(AppConfig.get(), pool, -1));
+    }
+
+    @Test
+    @DisplayName("Should keep the same top-K issues as the sequential engine")
+    void shouldMatchSequentialTopK() {
+        Organization org = randomOrganization(20_000, new Random(11));
+
+        AnalysisReport expected = new AnalysisEngine(AppConfig.get(), false, 25).analyze(org);
+        AnalysisReport actual = new ParallelAnalysisEngine(AppConfig.get(), false, 25, pool, 64).analyze(org);
+
+        assertTrue(actual.isTruncated());
+        assertEquals(expected.getUnderpaidCount(), actual.getUnderpaidCount());
+        assertEquals(expected.getOverpaidCount(), actual.getOverpaidCount());
+        assertEquals(expected.getReportingLineIssueCount(), actual.getReportingLineIssueCount());
+        assertSameReport(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Should follow the wired links like the sequential engine")
+    void shouldFollowWiredLinks() {
+        // Never wired: nobody has a manager link yet, so nobody is too deep
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 300_000, null));
+        for (int id = 2; id <= 10; id++) {
+            employees.add(new Employee(id, "First" + id, "Last", 50_000, id - 1));
+        }
+        Organization unwired = new Organization(employees);
+        AnalysisEngine sequential = new AnalysisEngine();
+        ParallelAnalysisEngine parallel = new ParallelAnalysisEngine(AppConfig.get(), pool, 1);
+
+        assertTrue(parallel.analyze(unwired).getReportingLineIssues().isEmpty());
+        assertSameReport(sequential.analyze(unwired), parallel.analyze(unwired));
+
+        // Wired, then one employee moved directly – the load-time indexes don't see it
+        Organization org = randomOrganization(5_000, new Random(3));
+        Employee deepest = org.getEmployees().stream()
+                .max(Comparator.comparingInt(Employee::findDepth)).orElseThrow();
+        assertTrue(deepest.findDepth() > AppConfig.get().getMaxReportingDepth());
+        deepest.setManager(org.getEmployeeById(1));
+
+        AnalysisReport expected = sequential.analyze(org);
+        AnalysisReport actual = new ParallelAnalysisEngine(AppConfig.get(), pool, 16).analyze(org);
+        assertTrue(actual.getReportingLineIssues().stream().noneMatch(issue -> issue.getEmployee() == deepest));
+        assertSameReport(expected, actual);
+    }
+
+    private static Organization randomOrganization(int size, Random random) {
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 250_000.37, null));
+        for (int id = 2; id <= size; id++) {
+            int managerId = 1 + random.nextInt(Math.min(id - 1, 20 + id / 100));
+            double salary = 30_000 + random.nextInt(90_000) + random.nextInt(100) / 100.0;
+            employees.add(new Employee(id, "First" + id, "Last" + id, salary, managerId));
+        }
+        Collections.shuffle(employees, random);
+        return build(employees);
+    }
+
+    private static Organization build(List<Employee> employees) {
+        OrganizationBuilder.Result result = new OrganizationBuilder().addAll(employees).build();
+        assertTrue(result.isValid(), () -> result.errors().toString());
+        return result.organization();
+    }
+
+    private static void assertSameReport(AnalysisReport expected, AnalysisReport actual) {
+        assertEquals(expected.getTotalEmployees(), actual.getTotalEmployees());
+        assertEquals(expected.getTotalManagers(), actual.getTotalManagers());
+        assertEquals(expected.getSalaryIssues().size(), actual.getSalaryIssues().size());
+        for (int i = 0; i < expected.getSalaryIssues().size(); i++) {
+            assertSame(expected.getSalaryIssues().get(i).getManager(), actual.getSalaryIssues().get(i).getManager());
+            assertEquals(expected.getSalaryIssues().get(i).getSubordinatesAverageSalary(),
+                    actual.getSalaryIssues().get(i).getSubordinatesAverageSalary());
+            assertEquals(expected.getSalaryIssues().get(i).getType(), actual.getSalaryIssues().get(i).getType());
+        }
+        assertEquals(expected.getReportingLineIssues().size(), actual.getReportingLineIssues().size());
+        for (int i = 0; i < expected.getReportingLineIssues().size(); i++) {
+            assertSame(expected.getReportingLineIssues().get(i).getEmployee(),
+                    actual.getReportingLineIssues().get(i).getEmployee());
+            assertEquals(expected.getReportingLineIssues().get(i).getActualDepth(),
+                    actual.getReportingLineIssues().get(i).getActualDepth());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the parallel chunked CSV reader.
+ */
+@DisplayName("Parallel CSV Employee Reader Tests")
+class ParallelCsvEmployeeReaderTest {
+
+    private ForkJoinPool pool;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return employees in file order across many chunks")
+    void shouldKeepFileOrder() throws IOException {
+        Path csvFile = createTempCsvFile(bigCsv(1000, "\n"));
+
+        // 50-byte chunks: every chunk holds only a couple of rows
+        List<Employee> employees = new ParallelCsvEmployeeReader(pool, 50).readEmployees(csvFile);
+
+        assertEquals(1000, employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            assertEquals(i + 1, employees.get(i).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not split CRLF line endings between chunks")
+    void shouldHandleCrlfAtChunkBoundaries() throws IOException {
+        Path csvFile = createTempCsvFile(bigCsv(300, "\r\n"));
+
+        for (int chunkSize = 1; chunkSize < 40; chunkSize++) {
+            List<Employee> employees = new ParallelCsvEmployeeReader(pool, chunkSize).readEmployees(csvFile);
+            assertEquals(300, employees.size(), "chunk size " + chunkSize);
+            assertEquals(300, employees.get(299).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the sequential reader")
+    void shouldMatchSequentialReader() throws IOException {
+        Path csvFile = createTempCsvFile(bigCsv(500, "\n"));
+
+        List<Employee> expected = new CsvEmployeeReader().readEmployees(csvFile);
+        List<Employee> actual = new ParallelCsvEmployeeReader(pool, 64).readEmployees(csvFile);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the sequential reader in fixed-point mode")
+    void shouldMatchSequentialReaderWithFixedPointSalaries() throws IOException {
+        Path csvFile = createTempCsvFile(bigCsv(500, "\n"));
+
+        List<Employee> expected = new CsvEmployeeReader(true).readEmployees(csvFile);
+        List<Employee> actual = new ParallelCsvEmployeeReader(pool, 64, true).readEmployees(csvFile);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSalaryCents(), actual.get(i).getSalaryCents());
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report the real line number of the first bad line")
+    void shouldReportAbsoluteLineNumber() throws IOException {
+        StringBuilder csv = new StringBuilder(bigCsv(400, "\n"));
+        csv.append("\n\n401,Bad,Row,oops,1\n402,Also,Bad,nope,1\n");
+        Path csvFile = createTempCsvFile(csv.toString());
+
+        IOException expected = assertThrows(IOException.class, () -> new CsvEmployeeReader().readEmployees(csvFile));
+        IOException actual = assertThrows(IOException.class,
+                () -> new ParallelCsvEmployeeReader(pool, 37).readEmployees(csvFile));
+
+        assertEquals(expected.getMessage(), actual.getMessage());
+        assertTrue(actual.getMessage().startsWith("Error parsing line 404: "));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for empty and header only files")
+    void shouldThrowForEmptyInput() throws IOException {
+        ParallelCsvEmployeeReader reader = new ParallelCsvEmployeeReader(pool, 0);
+
+        Path empty = createTempCsvFile("");
+        assertEquals("Empty CSV file",
+                assertThrows(IOException.class, () -> reader.readEmployees(empty)).getMessage());
+
+        Path headerOnly = createTempCsvFile("Id,firstName,lastName,salary,managerId\n\n");
+        assertEquals("No employee data found in file",
+                assertThrows(IOException.class, () -> reader.readEmployees(headerOnly)).getMessage());
+    }
+
+    private static String bigCsv(int rows, String newline) {
+        StringBuilder csv = new StringBuilder("Id,firstName,lastName,salary,managerId").append(newline);
+        csv.append("1,Chief,Exec,900000,").append(newline);
+        for (int id = 2; id <= rows; id++) {
+            csv.append(id).append(",First").append(id).append(",Last,").append(1000 + id).append(",1").append(newline);
+        }
+        return csv.toString();
+    }
+
+    private Path createTempCsvFile(String content) throws IOException {
+        Path csvFile = tempDir.resolve("test.csv");
+        Files.writeString(csvFile, content);
+        return csvFile;
+    }
+}
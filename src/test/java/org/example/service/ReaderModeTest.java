@@ -0,0 +1,41 @@
+package org.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReaderMode Tests")
+class ReaderModeTest {
+
+    @Test
+    @DisplayName("Should look modes up by their config names")
+    void testFromName() {
+        assertEquals(ReaderMode.STANDARD, ReaderMode.fromName("standard"));
+        assertEquals(ReaderMode.MAPPED, ReaderMode.fromName("mapped"));
+        assertEquals(ReaderMode.PARALLEL, ReaderMode.fromName("parallel"));
+        assertEquals("standard, mapped, parallel", ReaderMode.names());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown mode names")
+    void testFromName_Unknown() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ReaderMode.fromName("fast"));
+        assertTrue(e.getMessage().contains("fast"));
+        assertTrue(e.getMessage().contains("mapped"));
+    }
+
+    @Test
+    @DisplayName("Should create the matching reader in the requested salary mode")
+    void testNewReader() {
+        CsvEmployeeReader standard = ReaderMode.STANDARD.newReader(false);
+        CsvEmployeeReader mapped = ReaderMode.MAPPED.newReader(true);
+
+        assertEquals(CsvEmployeeReader.class, standard.getClass());
+        assertFalse(standard.isFixedPointSalaries());
+        assertEquals(MappedCsvEmployeeReader.class, mapped.getClass());
+        assertTrue(mapped.isFixedPointSalaries());
+        assertEquals(ParallelCsvEmployeeReader.class, ReaderMode.PARALLEL.newReader(false).getClass());
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReportFormat Tests")
+class ReportFormatTest {
+
+    @Test
+    @DisplayName("Should look formats up by their command-line names")
+    void testFromName() {
+        assertEquals(ReportFormat.TEXT, ReportFormat.fromName("text"));
+        assertEquals(ReportFormat.JSON_LINES, ReportFormat.fromName("ndjson"));
+        assertEquals(ReportFormat.CSV, ReportFormat.fromName("csv"));
+        assertEquals("text, ndjson, csv", ReportFormat.names());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown format names")
+    void testFromName_Unknown() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ReportFormat.fromName("xml"));
+        assertTrue(e.getMessage().contains("xml"));
+        assertTrue(e.getMessage().contains("ndjson"));
+    }
+
+    @Test
+    @DisplayName("Should create the matching writer")
+    void testNewWriter() {
+        WritableByteChannel channel = Channels.newChannel(new ByteArrayOutputStream());
+
+        assertInstanceOf(BufferedReportPrinter.class, ReportFormat.TEXT.newWriter(channel));
+        assertInstanceOf(JsonLinesReportWriter.class, ReportFormat.JSON_LINES.newWriter(channel));
+        assertInstanceOf(CsvReportWriter.class, ReportFormat.CSV.newWriter(channel));
+        assertFalse(ReportFormat.TEXT.isMachineReadable());
+        assertTrue(ReportFormat.CSV.isMachineReadable());
+    }
+}
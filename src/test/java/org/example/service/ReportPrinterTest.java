@@ -3,8 +3,11 @@ package org.example.service;
 import org.example.model.AnalysisReport;
 import org.example.model.Employee;
 import org.example.model.Issue;
+import org.example.model.IssueSink;
+import org.example.model.Organization;
 import org.example.model.ReportingDepthIssue;
 import org.example.model.SalaryIssue;
+import org.example.model.TopIssues;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -290,5 +293,69 @@ class ReportPrinterTest {
         assertTrue(output.contains("Deep1 Worker"));
         assertTrue(output.contains("Deep2 Worker"));
     }
-}
 
+    @Test
+    @DisplayName("Should say how many issues a top-K report left out")
+    void testPrintReport_TopK() {
+        Employee manager = manager().withId(1).withSalary(50000).build();
+        TopIssues top = new TopIssues(1);
+        top.add(new SalaryIssue(manager, Issue.Type.UNDERPAID_ISSUE, 50000, 60000, 75000));
+        top.add(new SalaryIssue(manager().withId(2).withSalary(55000).build(),
+                Issue.Type.UNDERPAID_ISSUE, 50000, 60000, 75000));
+
+        printer.printReport(top.toReport(10, 2));
+        String output = outputStream.toString();
+
+        assertTrue(output.contains("Issues found: 2"));
+        assertTrue(output.contains("(Showing the 1 worst of 2)"));
+        assertEquals(1, output.split("Underpaid by").length - 1);
+    }
+
+    @Test
+    @DisplayName("Should stream the same sections with the summary as a trailer")
+    void testStreamReport_MatchesPrintReportWithSummaryLast() {
+        Organization org = new Organization(buildList(
+                ceo().withId(1).withSalary(200000),
+                manager().withId(2).withSalary(50000).reportingTo(1),
+                manager().withId(3).withSalary(60000).reportingTo(2),
+                manager().withId(4).withSalary(50000).reportingTo(3),
+                manager().withId(5).withSalary(50000).reportingTo(4),
+                manager().withId(6).withSalary(50000).reportingTo(5),
+                regularEmployee().withId(7).withSalary(40000).reportingTo(6)
+        ));
+        org.buildHierarchy();
+        OrganizationAnalyzer analyzer = new OrganizationAnalyzer();
+
+        printer.printReport(analyzer.analyze(org));
+        String full = outputStream.toString();
+        outputStream.reset();
+        analyzer.analyze(org, printer.streamReport());
+        String streamed = outputStream.toString();
+
+        // Same text, with the summary block moved from after the header to before the footer
+        int summaryStart = full.indexOf("SUMMARY");
+        int summaryEnd = full.indexOf("MANAGERS WHO EARN LESS");
+        // The footer starts with the separator line just above "Analysis complete"
+        int footerStart = full.lastIndexOf('\n', full.lastIndexOf("Analysis complete") - 2) + 1;
+        String expected = full.substring(0, summaryStart)
+                + full.substring(summaryEnd, footerStart)
+                + full.substring(summaryStart, summaryEnd)
+                + full.substring(footerStart);
+        assertEquals(expected, streamed);
+    }
+
+    @Test
+    @DisplayName("Should print empty streamed sections as no issues")
+    void testStreamReport_NoIssues() {
+        IssueSink sink = printer.streamReport();
+        sink.startSection(Issue.Type.UNDERPAID_ISSUE);
+        sink.startSection(Issue.Type.OVERPAID_ISSUE);
+        sink.startSection(Issue.Type.HIERARCHY_DEPTH_ISSUE);
+        sink.finish(1, 0);
+        String output = outputStream.toString();
+
+        assertEquals(3, output.split("No issues found\\.").length - 1);
+        assertTrue(output.contains("Issues found: 0"));
+        assertTrue(output.contains("No issues found in the organizational structure"));
+    }
+}
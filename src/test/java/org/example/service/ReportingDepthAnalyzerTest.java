@@ -0,0 +1,141 @@
+package org.example.service;
+
+import org.example.model.Employee;
+import org.example.model.OrgTable;
+import org.example.model.Organization;
+import org.example.model.ReportingDepthIssue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ReportingDepthAnalyzer service.
+ */
+@DisplayName("Reporting Depth Analyzer Tests")
+class ReportingDepthAnalyzerTest {
+
+    private ReportingDepthAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new ReportingDepthAnalyzer();
+        resetIdGenerator();
+    }
+
+    @Test
+    @DisplayName("Should flag the same employees and chains on a columnar table")
+    void shouldAnalyzeOrgTable() {
+        // Chain 1 <- 2 <- ... <- 8, plus a shallow branch under 2
+        List<Employee> employees = new ArrayList<>();
+        employees.add(ceo().withId(1).build());
+        for (int id = 2; id <= 8; id++) {
+            employees.add(employee().withId(id).reportingTo(id - 1).build());
+        }
+        employees.add(employee().withId(9).reportingTo(2).build());
+        for (Employee employee : employees) {
+            if (employee.getManagerId() != null) {
+                employee.setManager(employees.get(employee.getManagerId() - 1));
+            }
+        }
+
+        List<ReportingDepthIssue> expected = analyzer.analyzeReportingDepth(employees);
+        List<ReportingDepthIssue> actual = analyzer.analyzeReportingDepth(OrgTable.from(employees));
+
+        assertEquals(List.of(6, 7, 8), actual.stream().map(issue -> issue.getEmployee().getId()).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            assertEquals(expected.get(i).getReportingChain(), actual.get(i).getReportingChain());
+        }
+    }
+
+    @Test
+    @DisplayName("Should label depths on a table whose rows come before their managers")
+    void shouldHandleRowsBeforeManagers() {
+        // Deepest employee first, CEO last
+        OrgTable.Builder builder = new OrgTable.Builder();
+        for (int id = 500; id >= 2; id--) {
+            builder.add(id, "Deep", "Worker", 1000, id - 1);
+        }
+        builder.add(1, "Chief", "Exec", 100000, null);
+
+        List<ReportingDepthIssue> issues = analyzer.analyzeReportingDepth(builder.build());
+
+        assertEquals(500 - 5, issues.size());
+        assertEquals(499, issues.get(0).getActualDepth());
+        assertEquals(499, issues.get(0).getReportingChain().size());
+        assertEquals(1, issues.get(0).getReportingChain().get(498).getId());
+        // Issues on the same branch share manager copies instead of holding their own
+        assertSame(issues.get(1).getEmployee(), issues.get(0).getReportingChain().get(0));
+    }
+
+    @Test
+    @DisplayName("Should flag the same employees and chains on an Organization")
+    void shouldAnalyzeOrganization() {
+        // Listed deepest first, so depths get resolved through managers not seen yet
+        List<Employee> employees = new ArrayList<>();
+        for (int id = 8; id >= 2; id--) {
+            employees.add(employee().withId(id).reportingTo(id - 1).build());
+        }
+        employees.add(employee().withId(9).reportingTo(2).build());
+        employees.add(ceo().withId(1).build());
+        Organization org = new Organization(employees);
+        org.buildHierarchy();
+
+        List<ReportingDepthIssue> expected = analyzer.analyzeReportingDepth(employees);
+        List<ReportingDepthIssue> actual = analyzer.analyzeReportingDepth(org);
+
+        assertEquals(List.of(8, 7, 6), actual.stream().map(issue -> issue.getEmployee().getId()).toList());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getEmployee(), actual.get(i).getEmployee());
+            assertEquals(expected.get(i).getActualDepth(), actual.get(i).getActualDepth());
+            assertEquals(expected.get(i).getReportingChain(), actual.get(i).getReportingChain());
+        }
+    }
+
+    @Test
+    @DisplayName("Should label list depths like findDepth, managers outside the list included")
+    void shouldMatchFindDepthOnPartialList() {
+        Random random = new Random(11);
+        List<Employee> employees = new ArrayList<>();
+        employees.add(ceo().withId(1).build());
+        for (int id = 2; id <= 3_000; id++) {
+            int managerId = id - 1 - random.nextInt(Math.min(id - 1, 3));
+            Employee employee = employee().withId(id).reportingTo(managerId).build();
+            employee.setManager(employees.get(managerId - 1));
+            employees.add(employee);
+        }
+        // Every other employee: half of each chain is outside the list
+        List<Employee> sample = new ArrayList<>();
+        for (int i = employees.size() - 1; i >= 0; i -= 2) {
+            sample.add(employees.get(i));
+        }
+
+        List<ReportingDepthIssue> issues = analyzer.analyzeReportingDepth(sample);
+
+        List<Employee> expected = sample.stream().filter(e -> e.findDepth() > 4).toList();
+        assertEquals(expected, issues.stream().map(ReportingDepthIssue::getEmployee).toList());
+        for (ReportingDepthIssue issue : issues) {
+            assertEquals(issue.getEmployee().findDepth(), issue.getActualDepth());
+            assertEquals(issue.getActualDepth(), issue.getReportingChain().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject manager links that loop")
+    void shouldRejectCycleInList() {
+        Employee first = employee().withId(1).reportingTo(2).build();
+        Employee second = employee().withId(2).reportingTo(1).build();
+        first.setManager(second);
+        second.setManager(first);
+
+        assertThrows(IllegalStateException.class, () -> analyzer.analyzeReportingDepth(List.of(first, second)));
+    }
+}
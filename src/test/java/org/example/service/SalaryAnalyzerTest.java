@@ -2,6 +2,7 @@ package org.example.service;
 
 import org.example.model.Employee;
 import org.example.model.Issue;
+import org.example.model.OrgTable;
 import org.example.model.SalaryIssue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -214,4 +215,29 @@ class SalaryAnalyzerTest {
 
         assertNull(issue);
     }
+
+    @Test
+    @DisplayName("Should find the same issues on a columnar table")
+    void shouldAnalyzeOrgTable() {
+        List<Employee> employees = buildList(
+                ceo().withId(1).withSalary(100000),
+                manager().withId(2).withFirstName("Underpaid").withSalary(50000).reportingTo(1),
+                manager().withId(3).withFirstName("Overpaid").withSalary(100000).reportingTo(1),
+                regularEmployee().withId(4).withSalary(50000).reportingTo(2),
+                regularEmployee().withId(5).withSalary(50000).reportingTo(3)
+        );
+        employees.get(1).setManager(employees.get(0));
+        employees.get(2).setManager(employees.get(0));
+        employees.get(3).setManager(employees.get(1));
+        employees.get(4).setManager(employees.get(2));
+
+        List<SalaryIssue> expected = analyzer.analyzeSalaries(employees);
+        List<SalaryIssue> actual = analyzer.analyzeSalaries(OrgTable.from(employees));
+
+        assertEquals(2, actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+            assertEquals(expected.get(i).getSubordinatesAverageSalary(), actual.get(i).getSubordinatesAverageSalary());
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.Employee;
+import org.example.model.OrgTable;
+import org.example.model.Organization;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Rough timing of the salary check: the per-Employee SalaryAnalyzer against
+ * VectorSalaryAnalyzer with the scalar and the Vector API kernels, on lists and
+ * on a columnar table. Not a test (surefire skips it); run it by hand:
+ *
+ *   mvn test-compile
+ *   java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes \
+ *        org.example.service.SalaryCheckBenchmark [employees] [rounds]
+ *
+ * Warm-up rounds are thrown away; the best of the rest is printed per variant.
+ */
+public class SalaryCheckBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 15;
+
+        List<Employee> employees = generate(size);
+        OrgTable table = OrgTable.from(employees);
+        SalaryAnalyzer reference = new SalaryAnalyzer();
+        VectorSalaryAnalyzer scalar = new VectorSalaryAnalyzer(AppConfig.get(), false);
+        VectorSalaryAnalyzer vector = new VectorSalaryAnalyzer();
+
+        System.out.printf("%,d employees, %d rounds, vector kernel %s%n", size, rounds,
+                vector.isVectorized() ? "on" : "off (add --add-modules jdk.incubator.vector)");
+        time("SalaryAnalyzer (per Employee)", rounds, () -> reference.analyzeSalaries(employees));
+        time("VectorSalaryAnalyzer, scalar", rounds, () -> scalar.analyzeSalaries(employees));
+        time("VectorSalaryAnalyzer, vector", rounds, () -> vector.analyzeSalaries(employees));
+        time("SalaryAnalyzer (OrgTable)", rounds, () -> reference.analyzeSalaries(table));
+        time("VectorSalaryAnalyzer (OrgTable), scalar", rounds, () -> scalar.analyzeSalaries(table));
+        time("VectorSalaryAnalyzer (OrgTable), vector", rounds, () -> vector.analyzeSalaries(table));
+    }
+
+    /** Wide, shallow org: every fifth employee manages some of the ones after them. */
+    private static List<Employee> generate(int size) {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(size);
+        employees.add(new Employee(1, "Chief", "Exec", 400_000, null));
+        for (int id = 2; id <= size; id++) {
+            int managerId = Math.max(1, ((id - 2) / 5) - random.nextInt(3));
+            double salary = 30_000 + random.nextInt(120_000) + random.nextInt(100) / 100.0;
+            employees.add(new Employee(id, "First" + id, "Last" + id, salary, managerId));
+        }
+        new Organization(employees).buildHierarchy();
+        return employees;
+    }
+
+    private static void time(String name, int rounds, Supplier<List<?>> run) {
+        long best = Long.MAX_VALUE;
+        int issues = 0;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            issues = run.get().size();
+            long elapsed = System.nanoTime() - start;
+            // First third is warm-up
+            if (round >= rounds / 3) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        System.out.printf("%-42s %8.2f ms  (%,d issues)%n", name, best / 1e6, issues);
+    }
+}
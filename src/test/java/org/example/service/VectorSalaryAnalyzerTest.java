@@ -0,0 +1,100 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.Employee;
+import org.example.model.OrgTable;
+import org.example.model.Organization;
+import org.example.model.SalaryIssue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VectorSalaryAnalyzer against the reference SalaryAnalyzer. Surefire runs with
+ * --add-modules jdk.incubator.vector, so the vector kernel is the one under test.
+ */
+@DisplayName("Vector Salary Analyzer Tests")
+class VectorSalaryAnalyzerTest {
+
+    @Test
+    @DisplayName("Should use the Vector API kernel when the module is loaded")
+    void shouldBeVectorized() {
+        assertTrue(new VectorSalaryAnalyzer().isVectorized());
+        assertFalse(new VectorSalaryAnalyzer(AppConfig.get(), false).isVectorized());
+    }
+
+    @Test
+    @DisplayName("Should match SalaryAnalyzer on employee lists of every tail length")
+    void shouldMatchReferenceOnLists() {
+        SalaryAnalyzer reference = new SalaryAnalyzer();
+        VectorSalaryAnalyzer vector = new VectorSalaryAnalyzer();
+        VectorSalaryAnalyzer scalar = new VectorSalaryAnalyzer(AppConfig.get(), false);
+
+        // Sizes around the lane counts so the scalar tail gets exercised too
+        for (int size = 1; size <= 40; size++) {
+            List<Employee> employees = randomOrg(size, size);
+            assertSameIssues(reference.analyzeSalaries(employees), vector.analyzeSalaries(employees));
+            assertSameIssues(reference.analyzeSalaries(employees), scalar.analyzeSalaries(employees));
+        }
+    }
+
+    @Test
+    @DisplayName("Should match SalaryAnalyzer on a columnar table")
+    void shouldMatchReferenceOnTables() {
+        OrgTable table = OrgTable.from(randomOrg(20_000, 3));
+
+        List<SalaryIssue> expected = new SalaryAnalyzer().analyzeSalaries(table);
+        List<SalaryIssue> actual = new VectorSalaryAnalyzer().analyzeSalaries(table);
+
+        assertFalse(expected.isEmpty());
+        assertSameIssues(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Should flag salaries exactly at the bounds the same way")
+    void shouldTreatBoundsLikeReference() {
+        List<Employee> employees = new ArrayList<>();
+        // Three separate pairs, one manager and one report each
+        employees.add(new Employee(1, "Top", "One", 150_000, null));         // Exactly max
+        employees.add(new Employee(2, "Low", "One", 100_000, 1));
+        employees.add(new Employee(3, "Top", "Two", 60_000, null));          // Exactly min
+        employees.add(new Employee(4, "Low", "Two", 50_000, 3));
+        employees.add(new Employee(5, "Top", "Three", 59_999.99, null));     // Just under min
+        employees.add(new Employee(6, "Low", "Three", 50_000, 5));
+        new Organization(employees).buildHierarchy();
+
+        List<SalaryIssue> issues = new VectorSalaryAnalyzer().analyzeSalaries(employees);
+
+        assertSameIssues(new SalaryAnalyzer().analyzeSalaries(employees), issues);
+        assertEquals(List.of(5), issues.stream().map(i -> i.getManager().getId()).toList());
+    }
+
+    private static List<Employee> randomOrg(int size, long seed) {
+        Random random = new Random(seed);
+        List<Employee> employees = new ArrayList<>();
+        employees.add(new Employee(1, "Chief", "Exec", 120_000 + random.nextInt(200_000), null));
+        for (int id = 2; id <= size; id++) {
+            double salary = 30_000 + random.nextInt(90_000) + random.nextInt(100) / 100.0;
+            employees.add(new Employee(id, "First" + id, "Last" + id, salary, 1 + random.nextInt(id - 1)));
+        }
+        new Organization(employees).buildHierarchy();
+        return employees;
+    }
+
+    private static void assertSameIssues(List<SalaryIssue> expected, List<SalaryIssue> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            SalaryIssue e = expected.get(i);
+            SalaryIssue a = actual.get(i);
+            assertEquals(e.getManager().getId(), a.getManager().getId());
+            assertEquals(e.getType(), a.getType());
+            assertEquals(e.getSubordinatesAverageSalary(), a.getSubordinatesAverageSalary());
+            assertEquals(e.getDifference(), a.getDifference());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.validators;
 
+import org.example.fixtures.OrganizationDataFixture;
 import org.example.model.Organization;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -139,5 +140,38 @@ class CircularReferenceValidatorTest {
         // Should not detect circular reference (handled by InvalidManagerValidator)
         assertTrue(errors.isEmpty(), "Non-existent manager should not be flagged as circular reference");
     }
-}
 
+    @Test
+    @DisplayName("Should report each cycle once, however many employees lead into it")
+    void testValidate_WithTailsIntoCycle_ReturnsOneErrorPerCycle() {
+        // A -> B -> A, with C and D hanging below the cycle; E -> E listed last
+        Organization organization = organization()
+                .withEmployee(employee().withId(1).withFirstName("Employee").withLastName("A").reportingTo(2))
+                .withEmployee(employee().withId(2).withFirstName("Employee").withLastName("B").reportingTo(1))
+                .withEmployee(employee().withId(3).withFirstName("Employee").withLastName("C").reportingTo(1))
+                .withEmployee(employee().withId(4).withFirstName("Employee").withLastName("D").reportingTo(3))
+                .withEmployee(employee().withId(5).withFirstName("Employee").withLastName("E").reportingTo(5))
+                .build();
+
+        List<ValidationError> errors = validator.validate(organization);
+
+        assertEquals(2, errors.size());
+        assertEquals(new ValidationError(ErrorCode.CIRCULAR_REFERENCE, "Employee A", 1, 1).getMessage(),
+                errors.get(0).getMessage());
+        assertEquals(new ValidationError(ErrorCode.CIRCULAR_REFERENCE, "Employee E", 5, 5).getMessage(),
+                errors.get(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should handle a long chain without a cycle")
+    void testValidate_WithLongChain_ReturnsNoErrors() {
+        // Listed bottom-up, so every walk ends on an already finished employee
+        OrganizationDataFixture fixture = organization();
+        for (int id = 100_000; id >= 2; id--) {
+            fixture.withEmployee(employee().withId(id).reportingTo(id - 1));
+        }
+        fixture.withEmployee(ceo().withId(1));
+
+        assertTrue(validator.validate(fixture.build()).isEmpty());
+    }
+}
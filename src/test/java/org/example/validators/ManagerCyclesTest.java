@@ -0,0 +1,44 @@
+package org.example.validators;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Manager Cycles Tests")
+class ManagerCyclesTest {
+
+    @Test
+    @DisplayName("Should report each cycle once, from the first walk that reaches it")
+    void shouldReportEachCycleOnce() {
+        // 0 is the top; 1 <-> 2 is a cycle with 3 and 4 hanging off it; 5 -> 6 -> 7 -> 5; 8 has an unknown manager
+        int[] managers = {-1, 2, 1, 1, 3, 6, 7, 5, -2};
+        List<int[]> cycles = new ArrayList<>();
+
+        ManagerCycles.find(managers.length, i -> managers[i], (start, closedAt) -> cycles.add(new int[]{start, closedAt}));
+
+        assertEquals(2, cycles.size());
+        assertArrayEquals(new int[]{1, 1}, cycles.get(0));
+        assertArrayEquals(new int[]{5, 5}, cycles.get(1));
+    }
+
+    @Test
+    @DisplayName("Should handle a self-reference and a chain longer than the initial path buffer")
+    void shouldHandleSelfReferenceAndLongChain() {
+        int size = 100;
+        int[] managers = new int[size];
+        managers[0] = 0;
+        for (int i = 1; i < size; i++) {
+            managers[i] = i - 1;
+        }
+        List<int[]> cycles = new ArrayList<>();
+
+        ManagerCycles.find(size, i -> managers[i], (start, closedAt) -> cycles.add(new int[]{start, closedAt}));
+
+        assertEquals(1, cycles.size());
+        assertArrayEquals(new int[]{0, 0}, cycles.get(0));
+    }
+}
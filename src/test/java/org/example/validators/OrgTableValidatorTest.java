@@ -0,0 +1,110 @@
+package org.example.validators;
+
+import org.example.model.Employee;
+import org.example.model.OrgTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrgTableValidator Tests")
+class OrgTableValidatorTest {
+
+    private OrgTableValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = new OrgTableValidator();
+        resetIdGenerator();
+    }
+
+    @Test
+    @DisplayName("Should report empty table")
+    void testValidate_WithEmptyTable_ReturnsEmptyError() {
+        List<ValidationError> errors = validator.validate(OrgTable.from(List.of()));
+
+        assertEquals(1, errors.size());
+        assertEquals(ErrorCode.EMPTY_EMPLOYEE_LIST, errors.get(0).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Should pass a valid hierarchy")
+    void testValidate_WithValidHierarchy_ReturnsNoErrors() {
+        OrgTable table = OrgTable.from(buildList(
+                ceo().withId(1),
+                manager().withId(2).reportingTo(1),
+                regularEmployee().withId(3).reportingTo(2)
+        ));
+
+        assertTrue(validator.validate(table).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report duplicate IDs once each")
+    void testValidate_WithDuplicates_ReturnsOneErrorPerId() {
+        OrgTable table = OrgTable.from(buildList(
+                ceo().withId(1),
+                regularEmployee().withId(2).reportingTo(1),
+                regularEmployee().withId(2).reportingTo(1),
+                regularEmployee().withId(2).reportingTo(1)
+        ));
+
+        List<ValidationError> errors = validator.validate(table);
+
+        assertEquals(1, errors.size());
+        assertEquals("Duplicate employee ID found: 2", errors.get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should report unknown managers and CEO problems with the usual messages")
+    void testValidate_WithBadManagersAndCeos_MatchesEmployeeValidators() {
+        List<Employee> employees = buildList(
+                ceo().withId(1).withFirstName("Ann").withLastName("One"),
+                ceo().withId(2).withFirstName("Bo").withLastName("Two"),
+                regularEmployee().withId(3).withFirstName("Cy").withLastName("Lost").reportingTo(999)
+        );
+
+        List<ValidationError> errors = validator.validate(OrgTable.from(employees));
+
+        assertEquals(List.of(
+                "[MANAGER_NOT_FOUND] Manager ID 999 not found for employee Cy Lost (ID: 3)",
+                "[MULTIPLE_CEOS] Multiple CEOs found: Ann One and Bo Two"
+        ), errors.stream().map(ValidationError::toString).toList());
+    }
+
+    @Test
+    @DisplayName("Should report no CEO and each cycle exactly once")
+    void testValidate_WithCycles_ReportsEachCycleOnce() {
+        OrgTable table = OrgTable.from(buildList(
+                employee().withId(1).withFirstName("Employee").withLastName("A").reportingTo(2),
+                employee().withId(2).withFirstName("Employee").withLastName("B").reportingTo(1),
+                employee().withId(3).withFirstName("Employee").withLastName("Tail").reportingTo(1),
+                employee().withId(4).withFirstName("Self").withLastName("Loop").reportingTo(4)
+        ));
+
+        List<ValidationError> errors = validator.validate(table);
+
+        assertEquals(List.of(
+                "[NO_CEO_FOUND] No CEO found (no employee without manager)",
+                "[CIRCULAR_REFERENCE] Circular reference detected: Employee A (ID: 1) has manager chain leading back to ID 1",
+                "[CIRCULAR_REFERENCE] Circular reference detected: Self Loop (ID: 4) has manager chain leading back to ID 4"
+        ), errors.stream().map(ValidationError::toString).toList());
+    }
+
+    @Test
+    @DisplayName("Should walk a very long chain in linear time")
+    void testValidate_WithLongChain_ReturnsNoErrors() {
+        List<Employee> employees = new ArrayList<>();
+        employees.add(ceo().withId(1).build());
+        for (int id = 2; id <= 100_000; id++) {
+            employees.add(employee().withId(id).reportingTo(id - 1).build());
+        }
+
+        assertTrue(validator.validate(OrgTable.from(employees)).isEmpty());
+    }
+}
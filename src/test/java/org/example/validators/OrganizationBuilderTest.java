@@ -0,0 +1,105 @@
+package org.example.validators;
+
+import org.example.model.Employee;
+import org.example.model.Organization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.fixtures.EmployeeDataFixture.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrganizationBuilder Tests")
+class OrganizationBuilderTest {
+
+    @BeforeEach
+    void setUp() {
+        resetIdGenerator();
+    }
+
+    @Test
+    @DisplayName("Should report empty input")
+    void testBuild_WithNoEmployees_ReturnsEmptyError() {
+        OrganizationBuilder.Result result = new OrganizationBuilder().build();
+
+        assertFalse(result.isValid());
+        assertEquals(1, result.errors().size());
+        assertEquals(ErrorCode.EMPTY_EMPLOYEE_LIST, result.errors().get(0).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("Should build and wire a valid hierarchy")
+    void testBuild_WithValidHierarchy_WiresEverything() {
+        List<Employee> employees = buildList(
+                regularEmployee().withId(3).reportingTo(2),
+                ceo().withId(1),
+                manager().withId(2).reportingTo(1)
+        );
+
+        OrganizationBuilder.Result result = new OrganizationBuilder().addAll(employees).build();
+        Organization org = result.organization();
+
+        assertTrue(result.isValid());
+        assertEquals(1, org.getCeo().getId());
+        assertEquals(3, org.size());
+        assertEquals(2, org.getEmployeeById(3).getManager().getId());
+        assertEquals(List.of(employees.get(2)), org.getCeo().getDirectSubordinates());
+        assertEquals(2, org.getManagerIndex(0));
+        assertEquals(Organization.NO_MANAGER, org.getManagerIndex(1));
+    }
+
+    @Test
+    @DisplayName("Should produce the same errors as the standalone validators")
+    void testBuild_MatchesStandaloneValidators() {
+        // Unknown manager, two CEOs, a 2-cycle with a tail and a self-reference
+        List<Employee> employees = buildList(
+                ceo().withId(1).withFirstName("First").withLastName("Ceo"),
+                regularEmployee().withId(2).reportingTo(99),
+                ceo().withId(3).withFirstName("Second").withLastName("Ceo"),
+                ceo().withId(4).withFirstName("Third").withLastName("Ceo"),
+                employee().withId(5).withFirstName("Loop").withLastName("A").reportingTo(6),
+                employee().withId(6).withFirstName("Loop").withLastName("B").reportingTo(5),
+                employee().withId(7).withFirstName("Tail").withLastName("C").reportingTo(5),
+                employee().withId(8).withFirstName("Self").withLastName("Ref").reportingTo(8),
+                regularEmployee().withId(9).reportingTo(77)
+        );
+
+        List<ValidationError> expected = new ArrayList<>(new BasicEmployeeRecordValidator().validate(employees));
+        expected.addAll(new CompositeValidator(
+                new InvalidManagerValidator(),
+                new OrganizationCeoValidator(),
+                new CircularReferenceValidator()
+        ).validate(new Organization(employees)));
+
+        OrganizationBuilder.Result result = new OrganizationBuilder(employees.size()).addAll(employees).build();
+
+        assertEquals(5, result.errors().size());
+        assertEquals(messages(expected), messages(result.errors()));
+    }
+
+    @Test
+    @DisplayName("Should report each duplicated ID once instead of throwing")
+    void testBuild_WithDuplicates_ReturnsOneErrorPerId() {
+        List<Employee> employees = buildList(
+                ceo().withId(1),
+                regularEmployee().withId(5).reportingTo(1),
+                regularEmployee().withId(2).reportingTo(1),
+                regularEmployee().withId(5).reportingTo(1),
+                regularEmployee().withId(2).reportingTo(1),
+                regularEmployee().withId(5).reportingTo(1)
+        );
+
+        OrganizationBuilder.Result result = new OrganizationBuilder().addAll(employees).build();
+
+        assertEquals(List.of("Duplicate employee ID found: 5", "Duplicate employee ID found: 2"),
+                messages(result.errors()));
+        assertSame(employees.get(1), result.organization().getEmployeeById(5));
+    }
+
+    private static List<String> messages(List<ValidationError> errors) {
+        return errors.stream().map(ValidationError::getMessage).toList();
+    }
+}